@@ -3,14 +3,7 @@ package com.labcorp.pages;
 import java.time.Duration;
 import java.util.*;
 
-import org.apache.commons.text.StringEscapeUtils;
-import org.json.JSONObject;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
 import org.openqa.selenium.*;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 
@@ -20,31 +13,29 @@ import org.openqa.selenium.support.ui.WebDriverWait;
  * - Navigating the careers portal
  * - Searching jobs
  * - Extracting job detail metadata
- * - Parsing job description content
+ * - Parsing job description content, delegated to {@link JobDetailParser}
  */
 public class CareersPage {
 
+    /**
+     * Base URL of the site under test. Overridable with -Dlabcorp.baseUrl so the
+     * same steps can run against a local stand-in of the careers site.
+     */
+    public static final String BASE_URL = System.getProperty("labcorp.baseUrl", "https://www.labcorp.com");
+
     private final WebDriver driver;
     private final WebDriverWait wait;
 
+    // Element handles reused until navigation or DOM replacement makes them stale
+    private final ElementCache elements;
+
     // Stored expected values from the listing result card
     private String expectedJobTitle;
     private String expectedJobLocation;
     private String expectedJobId;
 
-    // Actual values extracted from job detail JSON
-    private String lastJobTitle;
-    private String lastJobLocation;
-    private String lastJobId;
-
-    // Parsed third paragraph sentence in job description
-    private String thirdParagraphFirstSentence;
-
-    // Parsed job description document (from embedded JSON)
-    private Document jobDescriptionDoc;
-
-    // Map to hold second bullets grouped by their preceding header
-    private final Map<String, String> secondBulletsByHeader = new HashMap<>();
+    // Actual values extracted from job detail JSON and its description
+    private final JobDetailParser jobDetails = new JobDetailParser();
 
     // Saved Careers page URL to navigate back
     private String careersPageUrl;
@@ -52,6 +43,9 @@ public class CareersPage {
     // Locators
     private final By searchInputBox = By.cssSelector("input[placeholder='Search job title or location']");
     private final By searchButton = By.cssSelector("button[aria-label='Search']");
+    private final By careersLink = By.linkText("Careers");
+    private final By firstJobResult = By.cssSelector(JobDetailParser.FIRST_JOB_RESULT_SELECTOR);
+    private final By applyNowLink = By.cssSelector("a.btn.primary-button.au-target");
 
     /**
      * Constructor to initialize driver and explicit wait.
@@ -59,13 +53,15 @@ public class CareersPage {
     public CareersPage(WebDriver driver) {
         this.driver = driver;
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        this.elements = new ElementCache(driver);
     }
 
     /**
      * Navigates to LabCorp home page and maximizes the browser window.
      */
     public void goToHomePage() {
-        driver.get("https://www.labcorp.com");
+        driver.get(BASE_URL);
+        elements.invalidate();
         driver.manage().window().maximize();
     }
 
@@ -74,10 +70,9 @@ public class CareersPage {
      * Stores the current page URL for future navigation.
      */
     public void navigateToCareers() {
-        WebElement careersLink = wait.until(
-                ExpectedConditions.elementToBeClickable(By.linkText("Careers"))
-        );
-        careersLink.click();
+        elements.waitUntil(wait, careersLink, link -> link.isDisplayed() && link.isEnabled());
+        elements.click(careersLink);
+        elements.invalidate();
         careersPageUrl = driver.getCurrentUrl();
     }
 
@@ -87,6 +82,7 @@ public class CareersPage {
     public void returnToCareersPage() {
         if (careersPageUrl != null) {
             driver.get(careersPageUrl);
+            elements.invalidate();
         }
     }
 
@@ -96,9 +92,24 @@ public class CareersPage {
      * @param jobTitle the job title to search for
      */
     public void searchForJob(String jobTitle) {
-        wait.until(ExpectedConditions.visibilityOfElementLocated(searchInputBox))
-                .sendKeys(jobTitle);
-        driver.findElement(searchButton).click();
+        // Resolve the input box and the search button together, one round trip per poll
+        wait.until(d -> {
+            try {
+                Map<By, WebElement> found = elements.resolveAll(searchInputBox, searchButton);
+                return found.size() == 2 && found.get(searchInputBox).isDisplayed();
+            } catch (StaleElementReferenceException e) {
+                // Re-rendered between the lookup and the check; resolve again on the next poll
+                elements.evict(searchInputBox);
+                return false;
+            }
+        });
+        // Act through the cache so a handle replaced since the wait is re-resolved
+        elements.apply(searchInputBox, input -> {
+            input.sendKeys(jobTitle);
+            return null;
+        });
+        elements.click(searchButton);
+        elements.invalidate();
     }
 
     /**
@@ -106,10 +117,7 @@ public class CareersPage {
      * extracts job metadata, and parses the job description from the embedded JSON.
      */
     public void clickFirstJobResult() {
-        String selector = "span[data-ph-id='ph-page-element-page11-CRdnpK'] a.au-target:first-of-type";
-        WebElement link = wait.until(
-                ExpectedConditions.presenceOfElementLocated(By.cssSelector(selector))
-        );
+        WebElement link = elements.waitUntil(wait, firstJobResult, element -> true);
 
         // Capture listing metadata
         expectedJobTitle = link.getAttribute("data-ph-at-job-title-text");
@@ -123,6 +131,7 @@ public class CareersPage {
 
         // Navigate to job detail page
         driver.get(href);
+        elements.invalidate();
 
         // Wait for the embedded job JSON to be available
         wait.until(webDriver -> {
@@ -136,22 +145,7 @@ public class CareersPage {
         String scriptContent = (String) ((JavascriptExecutor) driver).executeScript(
                 "return document.evaluate(\"/html/head/script[2]/text()\", document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue.nodeValue;"
         );
-        JSONObject jobData = new JSONObject(scriptContent);
-
-        // Parse actual job metadata
-        lastJobTitle = jobData.getString("title");
-        lastJobId = jobData.getJSONObject("identifier").getString("value");
-
-        var address = jobData.getJSONObject("jobLocation").getJSONObject("address");
-        lastJobLocation = String.join(", ",
-                address.optString("addressLocality", "").trim(),
-                address.optString("addressRegion", "").trim(),
-                address.optString("addressCountry", "").trim()
-        ).replaceAll(", ,", ",");
-
-        // Parse job description HTML
-        String descriptionHtml = jobData.getString("description");
-        parseDescriptionContent(descriptionHtml);
+        jobDetails.parseJobData(scriptContent);
     }
 
     /**
@@ -160,14 +154,13 @@ public class CareersPage {
     public void clickApplyNow() {
         try {
             System.out.println("🔄 Looking for Apply Now link via CSS selector...");
-            By applyNowLinkSelector = By.cssSelector("a.btn.primary-button.au-target");
-
-            WebElement applyLink = wait.until(ExpectedConditions.presenceOfElementLocated(applyNowLinkSelector));
-            String href = applyLink.getAttribute("href");
+            elements.waitUntil(wait, applyNowLink, element -> true);
+            String href = elements.apply(applyNowLink, element -> element.getAttribute("href"));
 
             if (href != null && !href.isEmpty()) {
                 System.out.println("✅ Navigating to Apply Now URL: " + href);
                 driver.get(href);
+                elements.invalidate();
             } else {
                 System.err.println("❌ Apply Now href is missing or empty.");
             }
@@ -179,53 +172,12 @@ public class CareersPage {
     }
 
     /**
-     * Parses the embedded HTML job description and prepares a DOM object.
+     * Parses the embedded HTML job description.
      *
      * @param html raw job description HTML (escaped)
      */
     private void parseDescriptionContent(String html) {
-        String decoded = StringEscapeUtils.unescapeHtml4(html);
-        jobDescriptionDoc = Jsoup.parse(decoded);
-
-        // Remove empty paragraphs
-        jobDescriptionDoc.select("p").removeIf(p -> p.text().trim().isEmpty());
-
-        extractThirdParagraphSentence();
-        extractAllSecondBulletsByHeader();
-    }
-
-    /**
-     * Extracts the first sentence of the third paragraph in the job description.
-     */
-    private void extractThirdParagraphSentence() {
-        List<String> paras = jobDescriptionDoc.select("p").stream()
-                .map(Element::text)
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .toList();
-
-        if (paras.size() >= 3) {
-            String[] sentences = paras.get(2).split("(?<=\\.)\\s+");
-            thirdParagraphFirstSentence = sentences[0].trim();
-        }
-    }
-
-    /**
-     * Finds all <ul> elements and maps their second bullet point
-     * using the preceding header text (e.g., "Responsibilities", "Skills").
-     */
-    private void extractAllSecondBulletsByHeader() {
-        Elements uls = jobDescriptionDoc.select("ul");
-        for (Element ul : uls) {
-            Element prev = ul.previousElementSibling();
-            if (prev != null) {
-                String header = prev.text().trim();
-                Elements items = ul.select("li");
-                if (items.size() >= 2) {
-                    secondBulletsByHeader.put(header.toLowerCase(), items.get(1).text().trim());
-                }
-            }
-        }
+        jobDetails.parseDescriptionContent(html);
     }
 
     // ——— Public Getters ———
@@ -243,19 +195,19 @@ public class CareersPage {
     }
 
     public String getLastJobTitle() {
-        return lastJobTitle;
+        return jobDetails.getJobTitle();
     }
 
     public String getLastJobLocation() {
-        return lastJobLocation;
+        return jobDetails.getJobLocation();
     }
 
     public String getLastJobId() {
-        return lastJobId;
+        return jobDetails.getJobId();
     }
 
     public String getThirdParagraphFirstSentence() {
-        return thirdParagraphFirstSentence;
+        return jobDetails.getThirdParagraphFirstSentence();
     }
 
     /**
@@ -265,6 +217,13 @@ public class CareersPage {
      * @return the second bullet text, or null if not found
      */
     public String getSecondBulletUnderHeader(String headerText) {
-        return secondBulletsByHeader.get(headerText.toLowerCase());
+        return jobDetails.getSecondBulletUnderHeader(headerText);
+    }
+
+    /**
+     * Returns hit/miss and round-trip statistics of this page's element cache.
+     */
+    public ElementCache.Stats getElementCacheStats() {
+        return elements.getStats();
     }
 }
@@ -0,0 +1,307 @@
+package com.labcorp.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Per-page cache of WebElement handles keyed by locator.
+ *
+ * Cached handles are reused without a browser round trip. Staleness is detected
+ * cheaply in two ways:
+ * - document replacement (navigation): every batched resolve stamps the document
+ *   with a token and returns the current one in the same round trip; a different
+ *   token drops the whole cache.
+ * - element replacement within the same document: actions run through
+ *   {@link #apply(By, Function)} catch StaleElementReferenceException, drop the
+ *   handle and re-resolve once, transparently for the caller.
+ *
+ * Not thread-safe; like the page objects it belongs to, one instance per driver thread.
+ */
+public class ElementCache {
+
+    // Resolves several locators and reads the document token in one script call.
+    // Locators arrive as [kind, value] pairs; unknown elements come back as null.
+    private static final String RESOLVE_SCRIPT =
+            "var token = document.__elementCacheToken;"
+            + "if (!token) { token = document.__elementCacheToken = arguments[0]; }"
+            + "var result = [token];"
+            + "for (var i = 1; i < arguments.length; i += 2) {"
+            + "  var kind = arguments[i], value = arguments[i + 1], el = null;"
+            + "  if (kind === 'css') { el = document.querySelector(value); }"
+            + "  else if (kind === 'id') { el = document.getElementById(value); }"
+            + "  else if (kind === 'xpath') {"
+            + "    el = document.evaluate(value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+            + "  } else if (kind === 'linkText' || kind === 'partialLinkText') {"
+            + "    var links = document.getElementsByTagName('a');"
+            + "    for (var j = 0; j < links.length && !el; j++) {"
+            + "      var text = (links[j].innerText || links[j].textContent || '').trim();"
+            + "      if (kind === 'linkText' ? text === value : text.indexOf(value) >= 0) { el = links[j]; }"
+            + "    }"
+            + "  }"
+            + "  result.push(el);"
+            + "}"
+            + "return result;";
+
+    private final WebDriver driver;
+    private final Map<By, WebElement> handles = new HashMap<>();
+    private String documentToken;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long roundTrips;
+
+    public ElementCache(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Returns the element for a locator, reusing a cached handle when there is one.
+     *
+     * @throws NoSuchElementException if the element is not on the page
+     */
+    public WebElement get(By locator) {
+        WebElement cached = handles.get(locator);
+        if (cached != null) {
+            hits++;
+            return cached;
+        }
+        misses++;
+        roundTrips++;
+        WebElement element = driver.findElement(locator);
+        handles.put(locator, element);
+        return element;
+    }
+
+    /**
+     * Runs an action against the element for a locator. If the cached handle went
+     * stale, it is dropped and the element is resolved again before one retry.
+     *
+     * @return the action's result
+     */
+    public <T> T apply(By locator, Function<WebElement, T> action) {
+        try {
+            return action.apply(get(locator));
+        } catch (StaleElementReferenceException e) {
+            evict(locator);
+            return action.apply(get(locator));
+        }
+    }
+
+    /**
+     * Clicks the element for a locator, re-resolving it if the cached handle is stale.
+     */
+    public void click(By locator) {
+        apply(locator, element -> {
+            element.click();
+            return null;
+        });
+    }
+
+    /**
+     * Waits until the element for a locator is present and satisfies the condition,
+     * reusing the cached handle between polls. An element that is missing, or still
+     * stale after the one retry, counts as not yet there and is looked up again on
+     * the next poll.
+     *
+     * @return the element once the condition holds
+     */
+    public WebElement waitUntil(WebDriverWait wait, By locator, Predicate<WebElement> condition) {
+        return wait.until(d -> {
+            try {
+                return apply(locator, element -> condition.test(element) ? element : null);
+            } catch (NoSuchElementException | StaleElementReferenceException e) {
+                evict(locator);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Resolves several locators in a single browser round trip. Cached handles still
+     * pointing at the resolved nodes are kept; replaced ones are swapped for the fresh
+     * handles, and a replaced document drops the whole cache. Locators the batch
+     * script cannot express fall back to individual lookups.
+     *
+     * @return the found elements by locator; locators with no match are absent
+     */
+    public Map<By, WebElement> resolveAll(By... locators) {
+        List<By> batched = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        // A fresh candidate, so a replaced document can never adopt the token we already hold
+        args.add(UUID.randomUUID().toString());
+        for (By locator : locators) {
+            String[] query = toQuery(locator);
+            if (query != null) {
+                batched.add(locator);
+                args.add(query[0]);
+                args.add(query[1]);
+            }
+        }
+
+        Map<By, WebElement> found = new LinkedHashMap<>();
+        if (!batched.isEmpty()) {
+            roundTrips++;
+            List<?> result = (List<?>) ((JavascriptExecutor) driver).executeScript(RESOLVE_SCRIPT, args.toArray());
+            checkDocumentToken((String) result.get(0));
+            for (int i = 0; i < batched.size(); i++) {
+                By locator = batched.get(i);
+                WebElement cached = handles.get(locator);
+                WebElement element = (WebElement) result.get(i + 1);
+                if (element == null) {
+                    misses++;
+                    evict(locator);
+                    continue;
+                }
+                // Handles to the same node compare equal, so a match means the cached one is still live
+                if (element.equals(cached)) {
+                    hits++;
+                    element = cached;
+                } else {
+                    misses++;
+                    evict(locator);
+                    handles.put(locator, element);
+                }
+                found.put(locator, element);
+            }
+        }
+
+        for (By locator : locators) {
+            if (!found.containsKey(locator) && !batched.contains(locator)) {
+                try {
+                    found.put(locator, get(locator));
+                } catch (NoSuchElementException e) {
+                    // Absent from the result, like the batched lookups
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Drops the cached handle for one locator.
+     */
+    public void evict(By locator) {
+        if (handles.remove(locator) != null) {
+            evictions++;
+        }
+    }
+
+    /**
+     * Drops every cached handle. Page objects call this after they navigate.
+     */
+    public void invalidate() {
+        evictions += handles.size();
+        handles.clear();
+        documentToken = null;
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     */
+    public Stats getStats() {
+        return new Stats(hits, misses, evictions, roundTrips);
+    }
+
+    private void checkDocumentToken(String token) {
+        if (documentToken != null && !documentToken.equals(token)) {
+            evictions += handles.size();
+            handles.clear();
+        }
+        documentToken = token;
+    }
+
+    /**
+     * Maps a locator to a [kind, value] pair for the batch script, or null if unsupported.
+     * Relies on the "By.kind: value" form of Selenium's built-in locators.
+     */
+    private static String[] toQuery(By locator) {
+        String text = locator.toString();
+        int colon = text.indexOf(": ");
+        if (!text.startsWith("By.") || colon < 0) {
+            return null;
+        }
+        String kind = text.substring(3, colon);
+        String value = text.substring(colon + 2);
+        switch (kind) {
+            case "cssSelector":
+                return new String[]{"css", value};
+            case "id":
+                return new String[]{"id", value};
+            case "xpath":
+                return new String[]{"xpath", value};
+            case "linkText":
+                return new String[]{"linkText", value};
+            case "partialLinkText":
+                return new String[]{"partialLinkText", value};
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Immutable snapshot of cache counters.
+     */
+    public static class Stats {
+
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long roundTrips;
+
+        Stats(long hits, long misses, long evictions, long roundTrips) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.roundTrips = roundTrips;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * Number of handles dropped for any reason: found stale, replaced by a fresh
+         * handle, or invalidated after navigation.
+         */
+        public long getEvictions() {
+            return evictions;
+        }
+
+        /**
+         * Number of browser calls the cache made to resolve elements.
+         */
+        public long getRoundTrips() {
+            return roundTrips;
+        }
+
+        public double getHitRatio() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0.0 : (double) hits / lookups;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hits=%d, misses=%d, hitRatio=%.2f, evictions=%d, roundTrips=%d",
+                    hits, misses, getHitRatio(), evictions, roundTrips);
+        }
+    }
+}
@@ -2,7 +2,6 @@ package com.labcorp.pages;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
 
 /**
  * Represents LabCorp's Home Page.
@@ -12,6 +11,9 @@ public class HomePage {
 
     private WebDriver driver;
 
+    // Element handles reused until navigation or DOM replacement makes them stale
+    private final ElementCache elements;
+
     // Locator for the "Careers" navigation link
     private By careersLink = By.linkText("Careers");
 
@@ -21,13 +23,15 @@ public class HomePage {
      */
     public HomePage(WebDriver driver) {
         this.driver = driver;
+        this.elements = new ElementCache(driver);
     }
 
     /**
      * Clicks the "Careers" link on the homepage.
      */
     public void clickCareers() {
-        driver.findElement(careersLink).click();
+        elements.click(careersLink);
+        elements.invalidate();
     }
 
     /**
@@ -38,5 +42,13 @@ public class HomePage {
         return driver.getTitle();
     }
 
+    /**
+     * Returns hit/miss and round-trip statistics of this page's element cache.
+     * @return cache statistics.
+     */
+    public ElementCache.Stats getElementCacheStats() {
+        return elements.getStats();
+    }
+
     // Extend with other actions if needed
 }
@@ -0,0 +1,204 @@
+package com.labcorp.pages;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import org.apache.commons.text.StringEscapeUtils;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+
+
+/**
+ * Driver-free parsing of the careers site markup.
+ * This class encapsulates:
+ * - Locating the Careers page, search results and job links in fetched pages
+ * - Extracting the embedded job JSON of a job detail page
+ * - Parsing job metadata and description content
+ *
+ * Shared by the browser page object, the HTTP load workload and the snapshot sync,
+ * so all three read a job page the same way. One instance holds the last parsed job.
+ */
+public class JobDetailParser {
+
+    // CSS selectors of the job links on the search results listing
+    public static final String JOB_RESULT_SELECTOR = "span[data-ph-id='ph-page-element-page11-CRdnpK'] a.au-target";
+    public static final String FIRST_JOB_RESULT_SELECTOR = JOB_RESULT_SELECTOR + ":first-of-type";
+
+    // CSS selector of the link to the next page of search results
+    public static final String NEXT_RESULTS_PAGE_SELECTOR =
+            "a[rel=next], link[rel=next], a[aria-label='View next page']";
+
+    // Values extracted from the job detail JSON
+    private String jobTitle;
+    private String jobLocation;
+    private String jobId;
+
+    // Parsed third paragraph sentence in job description
+    private String thirdParagraphFirstSentence;
+
+    // Map to hold second bullets grouped by their preceding header
+    private final Map<String, String> secondBulletsByHeader = new HashMap<>();
+
+    /**
+     * Parses the embedded job metadata JSON of a job detail page:
+     * title, ID, location and the description content.
+     *
+     * @param scriptContent raw JSON from the page's second head script
+     * @throws JSONException if the JSON is invalid or a required field is missing
+     */
+    public void parseJobData(String scriptContent) {
+        JSONObject jobData = new JSONObject(scriptContent);
+
+        jobTitle = jobData.getString("title");
+        jobId = jobData.getJSONObject("identifier").getString("value");
+        jobLocation = formatJobLocation(jobData);
+
+        parseDescriptionContent(jobData.getString("description"));
+    }
+
+    /**
+     * Parses the embedded HTML job description, replacing the previous job's content.
+     *
+     * @param html raw job description HTML (escaped)
+     */
+    public void parseDescriptionContent(String html) {
+        String decoded = StringEscapeUtils.unescapeHtml4(html);
+        Document jobDescriptionDoc = Jsoup.parse(decoded);
+
+        // Remove empty paragraphs
+        jobDescriptionDoc.select("p").removeIf(p -> p.text().trim().isEmpty());
+
+        thirdParagraphFirstSentence = null;
+        secondBulletsByHeader.clear();
+        extractThirdParagraphSentence(jobDescriptionDoc);
+        extractAllSecondBulletsByHeader(jobDescriptionDoc);
+    }
+
+    /**
+     * Extracts the first sentence of the third paragraph in the job description.
+     */
+    private void extractThirdParagraphSentence(Document jobDescriptionDoc) {
+        List<String> paras = jobDescriptionDoc.select("p").stream()
+                .map(Element::text)
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .toList();
+
+        if (paras.size() >= 3) {
+            String[] sentences = paras.get(2).split("(?<=\\.)\\s+");
+            thirdParagraphFirstSentence = sentences[0].trim();
+        }
+    }
+
+    /**
+     * Finds all <ul> elements and maps their second bullet point
+     * using the preceding header text (e.g., "Responsibilities", "Skills").
+     */
+    private void extractAllSecondBulletsByHeader(Document jobDescriptionDoc) {
+        Elements uls = jobDescriptionDoc.select("ul");
+        for (Element ul : uls) {
+            Element prev = ul.previousElementSibling();
+            if (prev != null) {
+                String header = prev.text().trim();
+                Elements items = ul.select("li");
+                if (items.size() >= 2) {
+                    secondBulletsByHeader.put(header.toLowerCase(), items.get(1).text().trim());
+                }
+            }
+        }
+    }
+
+    // ——— Static helpers for fetched pages ———
+
+    /**
+     * Formats the job location of the embedded job JSON as "City, Region, Country".
+     *
+     * @param jobData parsed embedded job JSON
+     * @return the location as shown on the result listing
+     * @throws JSONException if the JSON has no jobLocation address
+     */
+    public static String formatJobLocation(JSONObject jobData) {
+        var address = jobData.getJSONObject("jobLocation").getJSONObject("address");
+        return String.join(", ",
+                address.optString("addressLocality", "").trim(),
+                address.optString("addressRegion", "").trim(),
+                address.optString("addressCountry", "").trim()
+        ).replaceAll(", ,", ",");
+    }
+
+    /**
+     * Returns the absolute URL of the "Careers" link on a fetched home page, or null if absent.
+     */
+    public static String findCareersUrl(Document homePage) {
+        Element link = homePage.selectFirst("a:containsOwn(Careers)");
+        return link == null || link.absUrl("href").isEmpty() ? null : link.absUrl("href");
+    }
+
+    /**
+     * Builds the search results URL for a keyword search, the way the careers
+     * portal encodes a search: "search-results?keywords=..." relative to the Careers page.
+     *
+     * @param careersPageUrl URL of the Careers page
+     * @param keywords       job title or location to search for
+     */
+    public static String searchResultsUrl(String careersPageUrl, String keywords) {
+        String query = "search-results?keywords=" + URLEncoder.encode(keywords, StandardCharsets.UTF_8);
+        return URI.create(careersPageUrl).resolve(query).toString();
+    }
+
+    /**
+     * Returns the embedded job JSON of a fetched job detail page, or null if absent.
+     * Reads the same node as the browser path: /html/head/script[2].
+     */
+    public static String extractJobJson(Document detailPage) {
+        Elements scripts = detailPage.select("head > script");
+        if (scripts.size() < 2) {
+            return null;
+        }
+        String data = scripts.get(1).data().trim();
+        return data.startsWith("{\"identifier\"") ? data : null;
+    }
+
+    // ——— Public Getters ———
+
+    public String getJobTitle() {
+        return jobTitle;
+    }
+
+    public String getJobLocation() {
+        return jobLocation;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getThirdParagraphFirstSentence() {
+        return thirdParagraphFirstSentence;
+    }
+
+    /**
+     * Returns the second bullet item under a given section header (case-insensitive).
+     *
+     * @param headerText the header under which to find the bullet
+     * @return the second bullet text, or null if not found
+     */
+    public String getSecondBulletUnderHeader(String headerText) {
+        return secondBulletsByHeader.get(headerText.toLowerCase());
+    }
+
+    /**
+     * Returns all parsed second bullets keyed by their lower-cased section header.
+     *
+     * @return read-only view of the parsed sections
+     */
+    public Map<String, String> getSecondBulletsByHeader() {
+        return Collections.unmodifiableMap(secondBulletsByHeader);
+    }
+}
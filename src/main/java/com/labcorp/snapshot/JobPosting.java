@@ -0,0 +1,113 @@
+package com.labcorp.snapshot;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of one parsed job posting, as kept in the JobSnapshotStore.
+ * Besides the parsed fields it carries the HTTP validators (ETag / Last-Modified)
+ * of the detail page so the next run can revalidate it with a conditional request.
+ */
+public class JobPosting {
+
+    private final String jobId;
+    private final String title;
+    private final String location;
+    private final byte[] descriptionHash;
+    private final Map<String, String> sections;
+    private final String detailUrl;
+    private final String etag;
+    private final String lastModified;
+
+    public JobPosting(String jobId, String title, String location, byte[] descriptionHash,
+                      Map<String, String> sections, String detailUrl, String etag, String lastModified) {
+        this.jobId = Objects.requireNonNull(jobId, "jobId");
+        this.title = title;
+        this.location = location;
+        this.descriptionHash = descriptionHash.clone();
+        this.sections = Collections.unmodifiableMap(new LinkedHashMap<>(sections));
+        this.detailUrl = detailUrl;
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Returns a copy of this posting with refreshed HTTP validators and the same content.
+     */
+    public JobPosting withValidators(String etag, String lastModified) {
+        return new JobPosting(jobId, title, location, descriptionHash, sections, detailUrl, etag, lastModified);
+    }
+
+    /**
+     * Whether the parsed content (not the validators) differs from another snapshot of the same job.
+     */
+    public boolean contentDiffers(JobPosting other) {
+        return !Objects.equals(title, other.title)
+                || !Objects.equals(location, other.location)
+                || !Arrays.equals(descriptionHash, other.descriptionHash);
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public byte[] getDescriptionHash() {
+        return descriptionHash.clone();
+    }
+
+    public Map<String, String> getSections() {
+        return sections;
+    }
+
+    public String getDetailUrl() {
+        return detailUrl;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof JobPosting)) {
+            return false;
+        }
+        JobPosting that = (JobPosting) o;
+        return jobId.equals(that.jobId)
+                && Objects.equals(title, that.title)
+                && Objects.equals(location, that.location)
+                && Arrays.equals(descriptionHash, that.descriptionHash)
+                && sections.equals(that.sections)
+                && Objects.equals(detailUrl, that.detailUrl)
+                && Objects.equals(etag, that.etag)
+                && Objects.equals(lastModified, that.lastModified);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(jobId, title, location, Arrays.hashCode(descriptionHash));
+    }
+
+    @Override
+    public String toString() {
+        return jobId + " | " + title + " | " + location;
+    }
+}
@@ -0,0 +1,371 @@
+package com.labcorp.snapshot;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent, append-only store of parsed job postings with an index by job ID.
+ *
+ * Data file layout: a 4-byte magic and a version byte, followed by records of
+ * [op:byte][length:int][payload][crc32:int]. A PUT record holds a full posting and
+ * supersedes earlier records for the same ID; a REMOVE record is a tombstone.
+ *
+ * The ID-to-offset index lives in memory and is saved next to the data file on
+ * close. If the saved index does not match the data file (e.g. after a crash) it
+ * is rebuilt by scanning, and a torn record at the tail is truncated. Reads verify
+ * each record's CRC, since a saved index is trusted without rescanning the data.
+ */
+public class JobSnapshotStore implements Closeable {
+
+    private static final int DATA_MAGIC = 0x4A4F4253; // "JOBS"
+    private static final int INDEX_MAGIC = 0x4A494458; // "JIDX"
+    private static final byte VERSION = 1;
+    private static final int HEADER_LENGTH = 5;
+
+    private static final byte OP_PUT = 1;
+    private static final byte OP_REMOVE = 2;
+
+    private final Path dataFile;
+    private final Path indexFile;
+    private final Map<String, Long> index = new HashMap<>();
+    private RandomAccessFile data;
+
+    // Records no longer reachable from the index, used to decide when to compact
+    private long deadRecords;
+
+    private JobSnapshotStore(Path dataFile) {
+        this.dataFile = dataFile;
+        this.indexFile = dataFile.resolveSibling(dataFile.getFileName() + ".idx");
+    }
+
+    /**
+     * Opens the store at the given data file, creating it if missing.
+     *
+     * @param dataFile path of the append-only data file
+     * @return an open store
+     */
+    public static JobSnapshotStore open(Path dataFile) throws IOException {
+        if (dataFile.getParent() != null) {
+            Files.createDirectories(dataFile.getParent());
+        }
+        JobSnapshotStore store = new JobSnapshotStore(dataFile);
+        store.data = new RandomAccessFile(dataFile.toFile(), "rw");
+        try {
+            if (store.data.length() == 0) {
+                store.data.writeInt(DATA_MAGIC);
+                store.data.writeByte(VERSION);
+            } else {
+                store.checkHeader();
+                if (!store.loadIndex()) {
+                    store.rebuildIndex();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            store.data.close();
+            throw e;
+        }
+        return store;
+    }
+
+    /**
+     * Returns the stored posting for a job ID, or null if none.
+     */
+    public JobPosting get(String jobId) throws IOException {
+        Long offset = index.get(jobId);
+        if (offset == null) {
+            return null;
+        }
+        data.seek(offset);
+        byte op = data.readByte();
+        byte[] payload = new byte[data.readInt()];
+        data.readFully(payload);
+        if (data.readInt() != checksum(op, payload)) {
+            throw new IOException("Corrupt record for job " + jobId + " in " + dataFile);
+        }
+        if (op != OP_PUT) {
+            throw new IOException("Index points at a non-PUT record for job " + jobId);
+        }
+        return readPosting(payload);
+    }
+
+    /**
+     * Appends a posting, replacing any earlier version of the same job.
+     */
+    public void put(JobPosting posting) throws IOException {
+        long offset = append(OP_PUT, writePosting(posting));
+        if (index.put(posting.getJobId(), offset) != null) {
+            deadRecords++;
+        }
+    }
+
+    /**
+     * Appends a tombstone for the job ID if it is present.
+     *
+     * @return true if the job was present
+     */
+    public boolean remove(String jobId) throws IOException {
+        if (!index.containsKey(jobId)) {
+            return false;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new DataOutputStream(bytes).writeUTF(jobId);
+        append(OP_REMOVE, bytes.toByteArray());
+        index.remove(jobId);
+        // The superseded PUT and the tombstone itself are both dead
+        deadRecords += 2;
+        return true;
+    }
+
+    public boolean contains(String jobId) {
+        return index.containsKey(jobId);
+    }
+
+    /**
+     * Returns the IDs of all stored jobs.
+     */
+    public Set<String> jobIds() {
+        return Collections.unmodifiableSet(index.keySet());
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Whether superseded records outnumber live ones, i.e. compaction would at least halve the file.
+     */
+    public boolean needsCompaction() {
+        return deadRecords > index.size();
+    }
+
+    /**
+     * Rewrites the data file with only the live postings.
+     */
+    public void compact() throws IOException {
+        Path tmp = dataFile.resolveSibling(dataFile.getFileName() + ".compact");
+        Map<String, Long> newIndex = new HashMap<>();
+        try (RandomAccessFile out = new RandomAccessFile(tmp.toFile(), "rw")) {
+            out.setLength(0);
+            out.writeInt(DATA_MAGIC);
+            out.writeByte(VERSION);
+            for (String jobId : index.keySet()) {
+                newIndex.put(jobId, out.getFilePointer());
+                writeRecord(out, OP_PUT, writePosting(get(jobId)));
+            }
+            out.getFD().sync();
+        }
+        data.close();
+        Files.move(tmp, dataFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        data = new RandomAccessFile(dataFile.toFile(), "rw");
+        index.clear();
+        index.putAll(newIndex);
+        deadRecords = 0;
+    }
+
+    /**
+     * Syncs the data file and saves the index for a fast next open.
+     */
+    @Override
+    public void close() throws IOException {
+        if (data == null) {
+            return;
+        }
+        try {
+            data.getFD().sync();
+            saveIndex(data.length());
+        } finally {
+            data.close();
+            data = null;
+        }
+    }
+
+    private long append(byte op, byte[] payload) throws IOException {
+        long offset = data.length();
+        data.seek(offset);
+        writeRecord(data, op, payload);
+        return offset;
+    }
+
+    private static void writeRecord(RandomAccessFile out, byte op, byte[] payload) throws IOException {
+
+        // Single write per record so a crash leaves at most one torn record at the tail
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(payload.length + 9);
+        DataOutputStream record = new DataOutputStream(bytes);
+        record.writeByte(op);
+        record.writeInt(payload.length);
+        record.write(payload);
+        record.writeInt(checksum(op, payload));
+        out.write(bytes.toByteArray());
+    }
+
+    private static int checksum(byte op, byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(op);
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private void checkHeader() throws IOException {
+        data.seek(0);
+        if (data.length() < HEADER_LENGTH || data.readInt() != DATA_MAGIC) {
+            throw new IOException("Not a job snapshot file: " + dataFile);
+        }
+        byte version = data.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported job snapshot version " + version + " in " + dataFile);
+        }
+    }
+
+    /**
+     * Scans every record to rebuild the index, truncating a torn or corrupt tail.
+     */
+    private void rebuildIndex() throws IOException {
+        index.clear();
+        deadRecords = 0;
+        long length = data.length();
+        long position = HEADER_LENGTH;
+        data.seek(position);
+        while (position < length) {
+            try {
+                byte op = data.readByte();
+                int payloadLength = data.readInt();
+                if (payloadLength < 0 || position + payloadLength + 9 > length) {
+                    break;
+                }
+                byte[] payload = new byte[payloadLength];
+                data.readFully(payload);
+                if (data.readInt() != checksum(op, payload)) {
+                    break;
+                }
+
+                String jobId = new DataInputStream(new ByteArrayInputStream(payload)).readUTF();
+                if (op == OP_PUT) {
+                    if (index.put(jobId, position) != null) {
+                        deadRecords++;
+                    }
+                } else if (index.remove(jobId) != null) {
+                    deadRecords += 2;
+                } else {
+                    deadRecords++;
+                }
+                position = data.getFilePointer();
+            } catch (EOFException e) {
+                break;
+            }
+        }
+        if (position < length) {
+            System.err.println("⚠️ Truncating " + (length - position) + " trailing bytes of " + dataFile);
+            data.setLength(position);
+        }
+    }
+
+    /**
+     * Loads the saved index if it was written for the current data file length.
+     *
+     * @return false if the index is missing or stale
+     */
+    private boolean loadIndex() throws IOException {
+        if (!Files.exists(indexFile)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != INDEX_MAGIC || in.readLong() != data.length()) {
+                return false;
+            }
+            deadRecords = in.readLong();
+            int count = in.readInt();
+            Map<String, Long> loaded = new HashMap<>(Math.max(16, count * 2));
+            for (int i = 0; i < count; i++) {
+                loaded.put(in.readUTF(), in.readLong());
+            }
+            index.clear();
+            index.putAll(loaded);
+            return true;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    private void saveIndex(long dataLength) throws IOException {
+        Path tmp = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(INDEX_MAGIC);
+            out.writeLong(dataLength);
+            out.writeLong(deadRecords);
+            out.writeInt(index.size());
+            for (Map.Entry<String, Long> entry : index.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeLong(entry.getValue());
+            }
+        }
+        Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static byte[] writePosting(JobPosting posting) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeUTF(posting.getJobId());
+        writeNullable(out, posting.getTitle());
+        writeNullable(out, posting.getLocation());
+        byte[] hash = posting.getDescriptionHash();
+        out.writeByte(hash.length);
+        out.write(hash);
+        writeNullable(out, posting.getDetailUrl());
+        writeNullable(out, posting.getEtag());
+        writeNullable(out, posting.getLastModified());
+        out.writeShort(posting.getSections().size());
+        for (Map.Entry<String, String> section : posting.getSections().entrySet()) {
+            out.writeUTF(section.getKey());
+            out.writeUTF(section.getValue());
+        }
+        return bytes.toByteArray();
+    }
+
+    private static JobPosting readPosting(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        String jobId = in.readUTF();
+        String title = readNullable(in);
+        String location = readNullable(in);
+        byte[] hash = new byte[in.readUnsignedByte()];
+        in.readFully(hash);
+        String detailUrl = readNullable(in);
+        String etag = readNullable(in);
+        String lastModified = readNullable(in);
+        int sectionCount = in.readUnsignedShort();
+        Map<String, String> sections = new LinkedHashMap<>();
+        for (int i = 0; i < sectionCount; i++) {
+            sections.put(in.readUTF(), in.readUTF());
+        }
+        return new JobPosting(jobId, title, location, hash, sections, detailUrl, etag, lastModified);
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,331 @@
+package com.labcorp.snapshot;
+
+import com.labcorp.pages.CareersPage;
+import com.labcorp.pages.JobDetailParser;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Brings a JobSnapshotStore up to date with the current results of a job search.
+ *
+ * Each stored posting is revalidated with a conditional request (If-None-Match /
+ * If-Modified-Since). A 304 answer costs no download and no parsing; a 200 answer is
+ * compared by description hash, title and location first, and only new or changed
+ * postings go through the full JobDetailParser description parsing. Responses are
+ * applied as they complete, so at most maxConcurrentRequests bodies are held at a time.
+ * A page that fails to load or parse keeps its stored snapshot and the run goes on.
+ *
+ * Jobs missing from the listing are removed only when the listing looks complete:
+ * an empty listing, a listing cut off by the page limit, or one that would drop more
+ * than the allowed share of stored jobs keeps the snapshot as it is and is reported.
+ */
+public class JobSnapshotSync {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    // Upper bound on followed result pages, in case "next" links loop or never end
+    private static final int MAX_LISTING_PAGES = 200;
+
+    private final HttpClient client;
+    private final JobSnapshotStore store;
+    private final int maxConcurrentRequests;
+    private final double maxRemovalRatio;
+
+    /**
+     * @param maxConcurrentRequests cap on detail-page requests in flight
+     * @param maxRemovalRatio       largest share of stored jobs (0-1) one run may remove;
+     *                              beyond it the listing is assumed broken and removals are withheld
+     */
+    public JobSnapshotSync(HttpClient client, JobSnapshotStore store, int maxConcurrentRequests,
+                           double maxRemovalRatio) {
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException("maxConcurrentRequests must be at least 1");
+        }
+        this.client = client;
+        this.store = store;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.maxRemovalRatio = maxRemovalRatio;
+    }
+
+    /**
+     * Monitors one search from the command line and prints the changes since the last run.
+     * Properties: snapshot.search, snapshot.searchUrl, snapshot.dir, snapshot.concurrency,
+     * snapshot.maxRemovalRatio.
+     */
+    public static void main(String[] args) throws Exception {
+        String search = System.getProperty("snapshot.search", "Method Developer");
+        String searchUrl = System.getProperty("snapshot.searchUrl");
+        Path file = Paths.get(System.getProperty("snapshot.dir", "target/snapshots"),
+                search.replaceAll("[^A-Za-z0-9]+", "-").toLowerCase() + ".jobs");
+
+        HttpClient client = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        try (JobSnapshotStore store = JobSnapshotStore.open(file)) {
+            JobSnapshotSync sync = new JobSnapshotSync(client, store,
+                    Integer.getInteger("snapshot.concurrency", 8),
+                    Double.parseDouble(System.getProperty("snapshot.maxRemovalRatio", "0.5")));
+            SnapshotDiff diff = searchUrl != null ? sync.sync(searchUrl) : sync.syncSearch(search);
+            System.out.println("📸 Snapshot of '" + search + "' (" + file + ")");
+            System.out.print(diff.report());
+        }
+    }
+
+    /**
+     * Locates the search results the way a user would (home page, Careers link,
+     * keyword search) and syncs them.
+     *
+     * @param keywords job title or location to search for
+     */
+    public SnapshotDiff syncSearch(String keywords) throws IOException, InterruptedException {
+        Document home = fetchPage(CareersPage.BASE_URL);
+        String careersUrl = JobDetailParser.findCareersUrl(home);
+        if (careersUrl == null) {
+            throw new IOException("Careers link not found on " + CareersPage.BASE_URL);
+        }
+        return sync(JobDetailParser.searchResultsUrl(careersUrl, keywords));
+    }
+
+    /**
+     * Fetches every page of the search results, revalidates every listed job against
+     * the store, records new, changed and removed postings and returns the differences.
+     *
+     * @param searchResultsUrl URL of the first search results page
+     */
+    public SnapshotDiff sync(String searchResultsUrl) throws IOException, InterruptedException {
+        Listing listing = fetchListing(searchResultsUrl);
+        SnapshotDiff diff = new SnapshotDiff();
+
+        // Revalidate concurrently and apply each response on this thread as it completes,
+        // since the store is single-threaded. A request slot frees up only once its
+        // response is applied, which bounds the bodies held in memory.
+        BlockingQueue<Fetched> completed = new LinkedBlockingQueue<>();
+        int outstanding = 0;
+        for (Map.Entry<String, String> job : listing.jobs.entrySet()) {
+            if (outstanding == maxConcurrentRequests) {
+                apply(completed.take(), diff);
+                outstanding--;
+            }
+            JobPosting stored = store.get(job.getKey());
+            client.sendAsync(detailRequest(job.getValue(), stored), HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, error) ->
+                            completed.add(new Fetched(job.getKey(), job.getValue(), stored, response, error)));
+            outstanding++;
+        }
+        for (; outstanding > 0; outstanding--) {
+            apply(completed.take(), diff);
+        }
+
+        Set<String> gone = new HashSet<>(store.jobIds());
+        gone.removeAll(listing.jobs.keySet());
+        String withheld = removalCheck(listing, gone.size());
+        if (withheld != null) {
+            System.err.println("⚠️ Not removing " + gone.size() + " job(s): " + withheld);
+            diff.removalsWithheld(gone.size(), withheld);
+        } else {
+            for (String jobId : gone) {
+                diff.removed(store.get(jobId));
+                store.remove(jobId);
+            }
+        }
+
+        if (store.needsCompaction()) {
+            store.compact();
+        }
+        return diff;
+    }
+
+    /**
+     * Returns why removals should be withheld for this listing, or null if they can be applied.
+     */
+    private String removalCheck(Listing listing, int missing) {
+        if (missing == 0) {
+            return null;
+        }
+        if (listing.jobs.isEmpty()) {
+            return "the listing is empty (layout change, block page or client-side rendering?)";
+        }
+        if (!listing.complete) {
+            return "the listing was cut off after " + MAX_LISTING_PAGES + " pages";
+        }
+        if (missing > maxRemovalRatio * store.size()) {
+            return String.format("%d of %d stored jobs are missing, more than the allowed %.0f%%",
+                    missing, store.size(), maxRemovalRatio * 100);
+        }
+        return null;
+    }
+
+    /**
+     * Collects job ID to detail URL for every result, following "next page" links.
+     */
+    private Listing fetchListing(String searchResultsUrl) throws IOException, InterruptedException {
+        Map<String, String> jobs = new LinkedHashMap<>();
+        Set<String> visited = new HashSet<>();
+        String pageUrl = searchResultsUrl;
+        while (pageUrl != null && visited.add(pageUrl)) {
+            if (visited.size() > MAX_LISTING_PAGES) {
+                return new Listing(jobs, false);
+            }
+            Document doc = fetchPage(pageUrl);
+            for (Element link : doc.select(JobDetailParser.JOB_RESULT_SELECTOR)) {
+                String jobId = link.attr("data-ph-at-job-id-text");
+                String href = link.absUrl("href");
+                if (!jobId.isEmpty() && !href.isEmpty()) {
+                    jobs.putIfAbsent(jobId, href);
+                }
+            }
+            Element next = doc.selectFirst(JobDetailParser.NEXT_RESULTS_PAGE_SELECTOR);
+            pageUrl = next == null || next.absUrl("href").isEmpty() ? null : next.absUrl("href");
+        }
+        return new Listing(jobs, true);
+    }
+
+    private Document fetchPage(String url) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IOException("HTTP " + response.statusCode() + " for " + url);
+        }
+        return Jsoup.parse(response.body(), response.uri().toString());
+    }
+
+    private static HttpRequest detailRequest(String url, JobPosting stored) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .GET();
+        if (stored != null && stored.getEtag() != null) {
+            builder.header("If-None-Match", stored.getEtag());
+        }
+        if (stored != null && stored.getLastModified() != null) {
+            builder.header("If-Modified-Since", stored.getLastModified());
+        }
+        return builder.build();
+    }
+
+    private void apply(Fetched fetched, SnapshotDiff diff) throws IOException {
+        if (fetched.error != null) {
+            System.err.println("❌ Failed to fetch job " + fetched.jobId + ": " + fetched.error.getMessage());
+            return;
+        }
+        int status = fetched.response.statusCode();
+        if (status == 304 && fetched.stored != null) {
+            diff.unchanged(true);
+            return;
+        }
+        if (status >= 400) {
+            // Keep the stored snapshot; a transient error is not a removal
+            System.err.println("❌ HTTP " + status + " for job " + fetched.jobId);
+            return;
+        }
+
+        String etag = fetched.response.headers().firstValue("ETag").orElse(null);
+        String lastModified = fetched.response.headers().firstValue("Last-Modified").orElse(null);
+        String json = JobDetailParser.extractJobJson(Jsoup.parse(fetched.response.body()));
+        if (json == null) {
+            System.err.println("❌ Embedded job JSON not found for job " + fetched.jobId);
+            return;
+        }
+
+        JobPosting stored = fetched.stored;
+        byte[] hash;
+        JobDetailParser details = new JobDetailParser();
+        try {
+            JSONObject jobData = new JSONObject(json);
+            hash = sha256(jobData.optString("description", ""));
+            if (stored != null && Arrays.equals(hash, stored.getDescriptionHash())
+                    && jobData.optString("title").equals(stored.getTitle())
+                    && JobDetailParser.formatJobLocation(jobData).equals(stored.getLocation())) {
+                // Same content served without (matching) validators; remember the new ones for next time
+                if (etag != null || lastModified != null) {
+                    store.put(stored.withValidators(etag, lastModified));
+                }
+                diff.unchanged(false);
+                return;
+            }
+            details.parseJobData(json);
+        } catch (JSONException e) {
+            // Keep the stored snapshot; one malformed page must not end the run
+            System.err.println("❌ Malformed job data for job " + fetched.jobId + ": " + e.getMessage());
+            return;
+        }
+        diff.parsed();
+        JobPosting posting = new JobPosting(fetched.jobId, details.getJobTitle(), details.getJobLocation(),
+                hash, details.getSecondBulletsByHeader(), fetched.url, etag, lastModified);
+        store.put(posting);
+        if (stored == null) {
+            diff.added(posting);
+        } else if (posting.contentDiffers(stored)) {
+            diff.changed(posting);
+        } else {
+            diff.unchanged(false);
+        }
+    }
+
+    static byte[] sha256(String text) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Job ID to detail URL for every listed result, and whether every page was read.
+     */
+    private static class Listing {
+
+        private final Map<String, String> jobs;
+        private final boolean complete;
+
+        Listing(Map<String, String> jobs, boolean complete) {
+            this.jobs = jobs;
+            this.complete = complete;
+        }
+    }
+
+    /**
+     * Outcome of one conditional detail-page request.
+     */
+    private static class Fetched {
+
+        private final String jobId;
+        private final String url;
+        private final JobPosting stored;
+        private final HttpResponse<String> response;
+        private final Throwable error;
+
+        Fetched(String jobId, String url, JobPosting stored, HttpResponse<String> response, Throwable error) {
+            this.jobId = jobId;
+            this.url = url;
+            this.stored = stored;
+            this.response = response;
+            this.error = error;
+        }
+    }
+}
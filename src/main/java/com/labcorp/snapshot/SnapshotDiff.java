@@ -0,0 +1,119 @@
+package com.labcorp.snapshot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of comparing a fresh search against the stored snapshot:
+ * which postings were added, removed or changed, and how much work it took.
+ */
+public class SnapshotDiff {
+
+    private final List<JobPosting> added = new ArrayList<>();
+    private final List<JobPosting> removed = new ArrayList<>();
+    private final List<JobPosting> changed = new ArrayList<>();
+    private int unchanged;
+    private int notModified;
+    private int parsed;
+    private int withheldRemovals;
+    private String withheldReason;
+
+    void added(JobPosting posting) {
+        added.add(posting);
+    }
+
+    void removed(JobPosting posting) {
+        removed.add(posting);
+    }
+
+    void changed(JobPosting posting) {
+        changed.add(posting);
+    }
+
+    /**
+     * Counts an unchanged posting.
+     *
+     * @param revalidated true if the server answered 304 Not Modified
+     */
+    void unchanged(boolean revalidated) {
+        unchanged++;
+        if (revalidated) {
+            notModified++;
+        }
+    }
+
+    void parsed() {
+        parsed++;
+    }
+
+    void removalsWithheld(int count, String reason) {
+        withheldRemovals = count;
+        withheldReason = reason;
+    }
+
+    public List<JobPosting> getAdded() {
+        return Collections.unmodifiableList(added);
+    }
+
+    public List<JobPosting> getRemoved() {
+        return Collections.unmodifiableList(removed);
+    }
+
+    public List<JobPosting> getChanged() {
+        return Collections.unmodifiableList(changed);
+    }
+
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    /**
+     * Number of postings confirmed unchanged by a 304 response, without downloading them.
+     */
+    public int getNotModified() {
+        return notModified;
+    }
+
+    /**
+     * Number of job descriptions that had to be fully parsed.
+     */
+    public int getParsed() {
+        return parsed;
+    }
+
+    /**
+     * Number of stored jobs missing from the listing that were kept because the
+     * listing looked empty or truncated.
+     */
+    public int getWithheldRemovals() {
+        return withheldRemovals;
+    }
+
+    /**
+     * Why removals were withheld, or null if they were applied.
+     */
+    public String getWithheldReason() {
+        return withheldReason;
+    }
+
+    public boolean hasChanges() {
+        return !added.isEmpty() || !removed.isEmpty() || !changed.isEmpty();
+    }
+
+    /**
+     * Formats a human-readable summary listing every added, removed and changed job.
+     */
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Added: %d | Removed: %d | Changed: %d | Unchanged: %d (%d not modified) | Parsed: %d%n",
+                added.size(), removed.size(), changed.size(), unchanged, notModified, parsed));
+        if (withheldReason != null) {
+            sb.append(String.format("  ⚠️ %d removal(s) withheld: %s%n", withheldRemovals, withheldReason));
+        }
+        added.forEach(p -> sb.append("  + ").append(p).append(System.lineSeparator()));
+        removed.forEach(p -> sb.append("  - ").append(p).append(System.lineSeparator()));
+        changed.forEach(p -> sb.append("  ~ ").append(p).append(System.lineSeparator()));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,56 @@
+package com.labcorp.load;
+
+import com.labcorp.driver.DriverFactory;
+import com.labcorp.stepdefs.CareersStepDefinitions;
+import org.openqa.selenium.WebDriver;
+
+import java.util.List;
+
+/**
+ * Runs the careers scenario through the existing Cucumber step definitions
+ * in a real browser. Each virtual user owns one browser for the whole run.
+ */
+public class BrowserScenarioWorkload implements ScenarioWorkload {
+
+    private final String searchTerm;
+    private final WebDriver driver;
+
+    /**
+     * Must be created on the worker thread that will run the iterations,
+     * since DriverFactory and the step definitions are bound to that thread.
+     */
+    public BrowserScenarioWorkload(String searchTerm) {
+        this.searchTerm = searchTerm;
+        DriverFactory.initializeDriver();
+        this.driver = DriverFactory.getDriver();
+    }
+
+    @Override
+    public List<LoadStep> newIteration() {
+        // Fresh step definitions per iteration so no page state leaks between iterations
+        CareersStepDefinitions steps = new CareersStepDefinitions();
+        return List.of(
+                new LoadStep("the user is on the LabCorp home page", steps::openHomePage),
+                new LoadStep("the user navigates to the Careers page", steps::navigateToCareers),
+                new LoadStep("the user searches for \"" + searchTerm + "\"", () -> steps.searchForJob(searchTerm)),
+                new LoadStep("the user clicks on the first job result", steps::clickFirstJobResult),
+                LoadStep.check("the job title should match the result listing", steps::validateJobTitleMatch),
+                LoadStep.check("the job location should match the result listing", steps::validateJobLocationMatch),
+                LoadStep.check("the job ID should match the result listing", steps::validateJobIdMatch),
+                new LoadStep("the user clicks on Apply Now button", steps::clickApplyNowButton),
+                new LoadStep("the user is redirected back to the Careers page", steps::returnToCareersPage)
+        );
+    }
+
+    /**
+     * Quits this user's browser. Safe to call from any thread.
+     */
+    @Override
+    public void close() {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            System.err.println("[Load] Failed to quit browser: " + e.getMessage());
+        }
+    }
+}
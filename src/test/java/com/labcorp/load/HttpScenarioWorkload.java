@@ -0,0 +1,139 @@
+package com.labcorp.load;
+
+import com.labcorp.pages.CareersPage;
+import com.labcorp.pages.JobDetailParser;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.junit.Assert;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Runs the careers scenario without a browser: pages are fetched with an
+ * HTTP client and parsed with Jsoup, and job details go through the same
+ * JobDetailParser as the browser path.
+ *
+ * The search URL and the embedded job JSON are located with the same
+ * JobDetailParser helpers the snapshot sync uses.
+ */
+public class HttpScenarioWorkload implements ScenarioWorkload {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final String searchTerm;
+    private final HttpClient client;
+
+    public HttpScenarioWorkload(HttpClient client, String searchTerm) {
+        this.client = client;
+        this.searchTerm = searchTerm;
+    }
+
+    @Override
+    public List<LoadStep> newIteration() {
+        Iteration it = new Iteration();
+        return List.of(
+                new LoadStep("the user is on the LabCorp home page", it::openHomePage),
+                new LoadStep("the user navigates to the Careers page", it::navigateToCareers),
+                new LoadStep("the user searches for \"" + searchTerm + "\"", it::searchForJob),
+                new LoadStep("the user clicks on the first job result", it::clickFirstJobResult),
+                LoadStep.check("the job title should match the result listing", () -> Assert.assertEquals(
+                        "❌ Job title mismatch!", it.expectedJobTitle, it.jobDetails.getJobTitle())),
+                LoadStep.check("the job location should match the result listing", () -> Assert.assertEquals(
+                        "❌ Job location mismatch!", it.expectedJobLocation, it.jobDetails.getJobLocation())),
+                LoadStep.check("the job ID should match the result listing", () -> Assert.assertEquals(
+                        "❌ Job ID mismatch!", it.expectedJobId, it.jobDetails.getJobId())),
+                new LoadStep("the user clicks on Apply Now button", it::clickApplyNow),
+                new LoadStep("the user is redirected back to the Careers page", it::returnToCareersPage)
+        );
+    }
+
+    /**
+     * The HTTP client is shared between users and owned by the runner.
+     */
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Navigation state of one scenario iteration, the HTTP equivalent of a browser tab.
+     */
+    private class Iteration {
+
+        private final JobDetailParser jobDetails = new JobDetailParser();
+        private String expectedJobTitle;
+        private String expectedJobLocation;
+        private String expectedJobId;
+        private Document current;
+        private String careersPageUrl;
+
+        void openHomePage() throws IOException, InterruptedException {
+            current = fetch(CareersPage.BASE_URL);
+        }
+
+        void navigateToCareers() throws IOException, InterruptedException {
+            careersPageUrl = JobDetailParser.findCareersUrl(current);
+            if (careersPageUrl == null) {
+                throw new IllegalStateException("Careers link not found on home page");
+            }
+            current = fetch(careersPageUrl);
+        }
+
+        void searchForJob() throws IOException, InterruptedException {
+            current = fetch(JobDetailParser.searchResultsUrl(careersPageUrl, searchTerm));
+        }
+
+        void clickFirstJobResult() throws IOException, InterruptedException {
+            Element link = current.selectFirst(JobDetailParser.FIRST_JOB_RESULT_SELECTOR);
+            if (link == null) {
+                throw new IllegalStateException("No job results found");
+            }
+            // Capture listing metadata
+            expectedJobTitle = link.attr("data-ph-at-job-title-text");
+            expectedJobLocation = link.attr("data-ph-at-job-location-text");
+            expectedJobId = link.attr("data-ph-at-job-id-text");
+
+            String href = link.absUrl("href");
+            if (href.isEmpty()) {
+                throw new RuntimeException("Job href was empty");
+            }
+            current = fetch(href);
+
+            String json = JobDetailParser.extractJobJson(current);
+            if (json == null) {
+                throw new IllegalStateException("Embedded job JSON not found at " + href);
+            }
+            jobDetails.parseJobData(json);
+        }
+
+        void clickApplyNow() throws IOException, InterruptedException {
+            Element applyLink = current.selectFirst("a.btn.primary-button.au-target");
+            if (applyLink == null || applyLink.absUrl("href").isEmpty()) {
+                throw new IllegalStateException("Apply Now href is missing or empty");
+            }
+            current = fetch(applyLink.absUrl("href"));
+        }
+
+        void returnToCareersPage() throws IOException, InterruptedException {
+            current = fetch(careersPageUrl);
+        }
+
+        private Document fetch(String url) throws IOException, InterruptedException {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET()
+                    .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 400) {
+                throw new IOException("HTTP " + response.statusCode() + " for " + url);
+            }
+            return Jsoup.parse(response.body(), response.uri().toString());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.labcorp.load;
+
+import java.time.Duration;
+
+/**
+ * Settings for a load run, read from system properties so the harness can be
+ * driven from the Maven command line (e.g. -Dload.users=20 -Dload.model=open).
+ */
+public class LoadConfig {
+
+    /**
+     * Concurrency model of the run.
+     * CLOSED: each virtual user starts its next iteration as soon as the previous one ends.
+     * OPEN: iterations arrive at a fixed rate, independent of how fast earlier ones finish.
+     */
+    public enum Model { CLOSED, OPEN }
+
+    /**
+     * How each virtual user drives the site: plain HTTP requests or a real browser.
+     */
+    public enum DriverMode { HTTP, BROWSER }
+
+    private final int users;
+    private final Duration duration;
+    private final Model model;
+    private final double arrivalRatePerSecond;
+    private final DriverMode driverMode;
+    private final String searchTerm;
+    private final Duration window;
+    private final Duration shutdownGrace;
+
+    public LoadConfig(int users, Duration duration, Model model, double arrivalRatePerSecond,
+                      DriverMode driverMode, String searchTerm, Duration window, Duration shutdownGrace) {
+        if (users < 1) {
+            throw new IllegalArgumentException("load.users must be at least 1");
+        }
+        if (model == Model.OPEN && arrivalRatePerSecond <= 0) {
+            throw new IllegalArgumentException("load.arrivalRate must be positive for the open model");
+        }
+        this.users = users;
+        this.duration = duration;
+        this.model = model;
+        this.arrivalRatePerSecond = arrivalRatePerSecond;
+        this.driverMode = driverMode;
+        this.searchTerm = searchTerm;
+        this.window = window;
+        this.shutdownGrace = shutdownGrace;
+    }
+
+    /**
+     * Builds a configuration from load.* system properties, falling back to a
+     * small closed-model HTTP run.
+     */
+    public static LoadConfig fromSystemProperties() {
+        return new LoadConfig(
+                Integer.getInteger("load.users", 5),
+                Duration.ofSeconds(Long.getLong("load.durationSeconds", 60L)),
+                Model.valueOf(System.getProperty("load.model", "closed").toUpperCase()),
+                Double.parseDouble(System.getProperty("load.arrivalRate", "1")),
+                DriverMode.valueOf(System.getProperty("load.driver", "http").toUpperCase()),
+                System.getProperty("load.searchTerm", "Method Developer"),
+                Duration.ofSeconds(Long.getLong("load.windowSeconds", 10L)),
+                Duration.ofSeconds(Long.getLong("load.shutdownGraceSeconds", 30L))
+        );
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public double getArrivalRatePerSecond() {
+        return arrivalRatePerSecond;
+    }
+
+    public DriverMode getDriverMode() {
+        return driverMode;
+    }
+
+    public String getSearchTerm() {
+        return searchTerm;
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public Duration getShutdownGrace() {
+        return shutdownGrace;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("users=%d, duration=%ss, model=%s, arrivalRate=%.2f/s, driver=%s, search='%s'",
+                users, duration.getSeconds(), model, arrivalRatePerSecond, driverMode, searchTerm);
+    }
+}
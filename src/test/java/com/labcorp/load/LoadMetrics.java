@@ -0,0 +1,256 @@
+package com.labcorp.load;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe collector of step latencies and outcomes for a load run.
+ * Keeps per-step latency samples for percentiles and per-window request and
+ * error counts so error rate can be followed over the course of the run.
+ */
+public class LoadMetrics {
+
+    private final long startNanos;
+    private final long windowNanos;
+
+    // Insertion order of step names, so reports follow the scenario order
+    private final List<String> stepOrder = new ArrayList<>();
+    private final Map<String, StepStats> steps = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, WindowStats> windows = new ConcurrentSkipListMap<>();
+    private final AtomicLong iterations = new AtomicLong();
+    private final AtomicLong failedIterations = new AtomicLong();
+    private final AtomicLong droppedArrivals = new AtomicLong();
+    private final AtomicLong startFailures = new AtomicLong();
+
+    public LoadMetrics(long startNanos, long windowNanos) {
+        this.startNanos = startNanos;
+        this.windowNanos = windowNanos;
+    }
+
+    /**
+     * Records one executed step.
+     *
+     * @param step         step name
+     * @param request      whether the step sent a request to the site
+     * @param endNanos     System.nanoTime() when the step finished
+     * @param latencyNanos time the step took
+     * @param success      whether the step completed without error
+     */
+    public void recordStep(String step, boolean request, long endNanos, long latencyNanos, boolean success) {
+        StepStats stats = steps.get(step);
+        if (stats == null) {
+            synchronized (stepOrder) {
+                stats = steps.computeIfAbsent(step, name -> {
+                    stepOrder.add(name);
+                    return new StepStats(request);
+                });
+            }
+        }
+        stats.record(latencyNanos, success);
+
+        long index = Math.max(0, (endNanos - startNanos) / windowNanos);
+        windows.computeIfAbsent(index, i -> new WindowStats()).record(request, success);
+    }
+
+    /**
+     * Records the outcome of a whole scenario iteration.
+     */
+    public void recordIteration(boolean success) {
+        iterations.incrementAndGet();
+        if (!success) {
+            failedIterations.incrementAndGet();
+        }
+    }
+
+    /**
+     * Records an open-model arrival that could not be started because all users were busy.
+     */
+    public void recordDroppedArrival() {
+        droppedArrivals.incrementAndGet();
+    }
+
+    /**
+     * Records a virtual user whose workload (e.g. its browser) could not be created.
+     */
+    public void recordStartFailure() {
+        startFailures.incrementAndGet();
+    }
+
+    public long getIterations() {
+        return iterations.get();
+    }
+
+    public long getFailedIterations() {
+        return failedIterations.get();
+    }
+
+    public long getDroppedArrivals() {
+        return droppedArrivals.get();
+    }
+
+    public long getStartFailures() {
+        return startFailures.get();
+    }
+
+    /**
+     * Number of executed steps that sent a request to the site; in-memory checks are not counted.
+     */
+    public long getTotalRequests() {
+        return steps.values().stream().filter(s -> s.request).mapToLong(StepStats::count).sum();
+    }
+
+    public long getTotalSteps() {
+        return steps.values().stream().mapToLong(StepStats::count).sum();
+    }
+
+    public long getTotalErrors() {
+        return steps.values().stream().mapToLong(s -> s.errors.get()).sum();
+    }
+
+    /**
+     * Returns the latency percentile of a step in milliseconds, or NaN if the step never ran.
+     *
+     * @param step       step name
+     * @param percentile value in (0, 100]
+     */
+    public double getStepPercentileMillis(String step, double percentile) {
+        StepStats stats = steps.get(step);
+        if (stats == null) {
+            return Double.NaN;
+        }
+        return percentile(stats.sortedSnapshot(), percentile) / 1_000_000.0;
+    }
+
+    /**
+     * Formats the end-of-run report: throughput, per-step percentiles and
+     * error rate per time window.
+     *
+     * @param elapsedNanos wall-clock length of the run
+     */
+    public String report(long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        long requests = getTotalRequests();
+        long totalSteps = getTotalSteps();
+        StringBuilder sb = new StringBuilder();
+
+        sb.append(String.format("Duration: %.1fs | Iterations: %d (%d failed) | Dropped arrivals: %d"
+                        + " | User start failures: %d%n",
+                seconds, getIterations(), getFailedIterations(), getDroppedArrivals(), getStartFailures()));
+        sb.append(String.format("Throughput: %.2f requests/s (%.2f steps/s) | Step errors: %d (%.2f%%)%n",
+                requests / seconds, totalSteps / seconds, getTotalErrors(), ratio(getTotalErrors(), totalSteps)));
+
+        sb.append(String.format("%n%-60s %7s %7s %9s %9s %9s %9s%n",
+                "Step", "Count", "Err%", "p50(ms)", "p90(ms)", "p95(ms)", "p99(ms)"));
+        List<String> order;
+        synchronized (stepOrder) {
+            order = new ArrayList<>(stepOrder);
+        }
+        for (String step : order) {
+            StepStats stats = steps.get(step);
+            long[] sorted = stats.sortedSnapshot();
+            sb.append(String.format("%-60s %7d %6.2f%% %9.1f %9.1f %9.1f %9.1f%n",
+                    truncate(step, 60), sorted.length, ratio(stats.errors.get(), sorted.length),
+                    percentile(sorted, 50) / 1e6, percentile(sorted, 90) / 1e6,
+                    percentile(sorted, 95) / 1e6, percentile(sorted, 99) / 1e6));
+        }
+
+        double windowSeconds = windowNanos / 1_000_000_000.0;
+        sb.append(String.format("%n%-16s %10s %10s %8s%n", "Window", "Requests", "Req/s", "Err%"));
+        // Every window up to the end of the run, so stretches without any completed step show as 0 req/s
+        long lastWindow = Math.max((elapsedNanos - 1) / windowNanos, windows.isEmpty() ? 0 : windows.lastKey());
+        WindowStats empty = new WindowStats();
+        for (long index = 0; index <= lastWindow; index++) {
+            WindowStats window = windows.getOrDefault(index, empty);
+            long from = Math.round(index * windowSeconds);
+            long to = Math.round((index + 1) * windowSeconds);
+            long count = window.requests.get();
+            sb.append(String.format("%-16s %10d %10.2f %7.2f%%%n",
+                    from + "s-" + to + "s", count, count / windowSeconds,
+                    ratio(window.errors.get(), window.steps.get())));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Nearest-rank percentile of an ascending array, 0 when empty.
+     */
+    static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.min(sorted.length, Math.max(1, rank)) - 1];
+    }
+
+    private static double ratio(long part, long whole) {
+        return whole == 0 ? 0.0 : 100.0 * part / whole;
+    }
+
+    private static String truncate(String s, int max) {
+        return s.length() <= max ? s : s.substring(0, max - 3) + "...";
+    }
+
+    /**
+     * Latency samples and error count of one step.
+     */
+    private static class StepStats {
+
+        private final boolean request;
+        private long[] samples = new long[256];
+        private int size;
+        private final AtomicLong errors = new AtomicLong();
+
+        StepStats(boolean request) {
+            this.request = request;
+        }
+
+        synchronized void record(long latencyNanos, boolean success) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = latencyNanos;
+            if (!success) {
+                errors.incrementAndGet();
+            }
+        }
+
+        synchronized long count() {
+            return size;
+        }
+
+        long[] sortedSnapshot() {
+            long[] copy;
+            synchronized (this) {
+                copy = Arrays.copyOf(samples, size);
+            }
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+
+    /**
+     * Step, request and error counts of one time window. Error rate is per step,
+     * so failed checks count too.
+     */
+    private static class WindowStats {
+
+        private final AtomicLong steps = new AtomicLong();
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+
+        void record(boolean request, boolean success) {
+            steps.incrementAndGet();
+            if (request) {
+                requests.incrementAndGet();
+            }
+            if (!success) {
+                errors.incrementAndGet();
+            }
+        }
+    }
+}
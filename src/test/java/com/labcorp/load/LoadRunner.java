@@ -0,0 +1,270 @@
+package com.labcorp.load;
+
+import com.labcorp.utils.TestLogger;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Load-generation harness that replays the careers scenario with N virtual users.
+ *
+ * Closed model: every user loops over the scenario back to back until the run ends.
+ * Open model: scenario iterations arrive at a fixed rate and are handed to an idle
+ * user; arrivals that find all users busy are dropped and counted rather than
+ * queued, so reported latencies never hide queueing delay.
+ *
+ * Run with, for example:
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.labcorp.load.LoadRunner
+ *     -Dlabcorp.baseUrl=http://localhost:8080 -Dload.users=10 -Dload.model=open -Dload.arrivalRate=5
+ */
+public class LoadRunner {
+
+    // Only the first few failures are logged in full to keep the log readable under load
+    private static final int MAX_LOGGED_ERRORS = 10;
+
+    // How long interrupted users get to stop after the grace period has run out
+    private static final Duration USER_INTERRUPT_WAIT = Duration.ofSeconds(5);
+
+    private final LoadConfig config;
+    private final Supplier<ScenarioWorkload> workloadFactory;
+    private final List<ScenarioWorkload> workloads = new CopyOnWriteArrayList<>();
+    private final AtomicInteger loggedErrors = new AtomicInteger();
+    private volatile boolean stopped;
+
+    private LoadMetrics metrics;
+
+    public LoadRunner(LoadConfig config, Supplier<ScenarioWorkload> workloadFactory) {
+        this.config = config;
+        this.workloadFactory = workloadFactory;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadConfig config = LoadConfig.fromSystemProperties();
+        Supplier<ScenarioWorkload> factory;
+        if (config.getDriverMode() == LoadConfig.DriverMode.BROWSER) {
+            factory = () -> new BrowserScenarioWorkload(config.getSearchTerm());
+        } else {
+            HttpClient client = HttpClient.newBuilder()
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            factory = () -> new HttpScenarioWorkload(client, config.getSearchTerm());
+        }
+
+        LoadRunner runner = new LoadRunner(config, factory);
+        CountDownLatch finished = new CountDownLatch(1);
+
+        // Ctrl-C stops the run early. The JVM halts once this hook returns and user threads
+        // are daemons, so if the regular shutdown path has not finished in time the hook
+        // closes the workloads itself rather than leave browsers running.
+        Thread hook = new Thread(() -> {
+            runner.stop();
+            try {
+                long waitMillis = config.getShutdownGrace().toMillis() + USER_INTERRUPT_WAIT.toMillis();
+                if (!finished.await(waitMillis, TimeUnit.MILLISECONDS)) {
+                    runner.closeWorkloads();
+                }
+            } catch (InterruptedException e) {
+                runner.closeWorkloads();
+                Thread.currentThread().interrupt();
+            }
+        }, "load-shutdown");
+        Runtime.getRuntime().addShutdownHook(hook);
+
+        try {
+            runner.run();
+        } finally {
+            finished.countDown();
+        }
+        try {
+            Runtime.getRuntime().removeShutdownHook(hook);
+        } catch (IllegalStateException ignored) {
+            // JVM is already shutting down
+        }
+    }
+
+    /**
+     * Runs the load for the configured duration (or until stopped), releases all
+     * users and logs the report.
+     *
+     * @return collected metrics of the run
+     */
+    public LoadMetrics run() throws InterruptedException {
+        TestLogger.log("🚦 Starting load run: " + config);
+        long start = System.nanoTime();
+        metrics = new LoadMetrics(start, config.getWindow().toNanos());
+
+        if (config.getModel() == LoadConfig.Model.CLOSED) {
+            runClosed();
+        } else {
+            runOpen();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        TestLogger.log("🏁 Load run finished\n" + metrics.report(elapsed));
+        return metrics;
+    }
+
+    /**
+     * Requests the run to end; in-flight iterations finish their current step sequence.
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    private void runClosed() throws InterruptedException {
+        long deadline = System.nanoTime() + config.getDuration().toNanos();
+        ExecutorService users = Executors.newFixedThreadPool(config.getUsers(), namedThreads("load-user-"));
+        try {
+            for (int i = 0; i < config.getUsers(); i++) {
+                users.execute(() -> {
+                    ScenarioWorkload workload;
+                    try {
+                        workload = workloadFactory.get();
+                    } catch (RuntimeException e) {
+                        TestLogger.log("❌ Failed to start virtual user: " + e);
+                        metrics.recordStartFailure();
+                        return;
+                    }
+                    workloads.add(workload);
+                    while (!stopped && System.nanoTime() < deadline) {
+                        runIteration(workload);
+                    }
+                });
+            }
+            awaitDeadline(deadline);
+        } finally {
+            shutdown(users);
+        }
+    }
+
+    private void runOpen() throws InterruptedException {
+        long deadline = System.nanoTime() + config.getDuration().toNanos();
+        ThreadLocal<ScenarioWorkload> userWorkload = ThreadLocal.withInitial(() -> {
+            ScenarioWorkload workload = workloadFactory.get();
+            workloads.add(workload);
+            return workload;
+        });
+
+        // No queue: an arrival either gets an idle user right away or is dropped
+        ThreadPoolExecutor users = new ThreadPoolExecutor(config.getUsers(), config.getUsers(),
+                0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), namedThreads("load-user-"));
+        ScheduledExecutorService arrivals = Executors.newSingleThreadScheduledExecutor(namedThreads("load-arrivals-"));
+        long periodNanos = Math.max(1L, (long) (1_000_000_000L / config.getArrivalRatePerSecond()));
+        try {
+            arrivals.scheduleAtFixedRate(() -> {
+                if (stopped) {
+                    return;
+                }
+                try {
+                    users.execute(() -> {
+                        ScenarioWorkload workload;
+                        try {
+                            workload = userWorkload.get();
+                        } catch (RuntimeException e) {
+                            // The arrival could not run; ThreadLocal retries the factory on the next one
+                            TestLogger.log("❌ Failed to start virtual user: " + e);
+                            metrics.recordStartFailure();
+                            metrics.recordIteration(false);
+                            return;
+                        }
+                        runIteration(workload);
+                    });
+                } catch (RejectedExecutionException e) {
+                    metrics.recordDroppedArrival();
+                }
+            }, 0L, periodNanos, TimeUnit.NANOSECONDS);
+            awaitDeadline(deadline);
+        } finally {
+            stopped = true;
+            arrivals.shutdownNow();
+            arrivals.awaitTermination(5, TimeUnit.SECONDS);
+            shutdown(users);
+        }
+    }
+
+    /**
+     * Runs one scenario iteration, timing every step. The first failing step
+     * ends the iteration since later steps depend on it.
+     */
+    private void runIteration(ScenarioWorkload workload) {
+        boolean success = true;
+        for (LoadStep step : workload.newIteration()) {
+            long begin = System.nanoTime();
+            try {
+                step.run();
+                long end = System.nanoTime();
+                metrics.recordStep(step.getName(), step.isRequest(), end, end - begin, true);
+            } catch (Throwable t) {
+                long end = System.nanoTime();
+                metrics.recordStep(step.getName(), step.isRequest(), end, end - begin, false);
+                if (loggedErrors.incrementAndGet() <= MAX_LOGGED_ERRORS) {
+                    TestLogger.log("❌ [" + Thread.currentThread().getName() + "] " + step.getName() + ": " + t);
+                }
+                success = false;
+                break;
+            }
+        }
+        metrics.recordIteration(success);
+    }
+
+    private void awaitDeadline(long deadline) throws InterruptedException {
+        long remaining;
+        while (!stopped && (remaining = deadline - System.nanoTime()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(200)));
+        }
+        stopped = true;
+    }
+
+    /**
+     * Lets in-flight iterations finish within the grace period, interrupts the
+     * rest, then releases every user's resources.
+     */
+    private void shutdown(ExecutorService users) throws InterruptedException {
+        stopped = true;
+        users.shutdown();
+        try {
+            if (!users.awaitTermination(config.getShutdownGrace().toMillis(), TimeUnit.MILLISECONDS)) {
+                TestLogger.log("⚠️ Users still busy after grace period, interrupting");
+                users.shutdownNow();
+                users.awaitTermination(USER_INTERRUPT_WAIT.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            closeWorkloads();
+        }
+    }
+
+    /**
+     * Releases every registered user's resources. Safe to call from several threads;
+     * each workload is closed once.
+     */
+    void closeWorkloads() {
+        for (ScenarioWorkload workload : workloads) {
+            if (workloads.remove(workload)) {
+                workload.close();
+            }
+        }
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
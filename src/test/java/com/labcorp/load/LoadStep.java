@@ -0,0 +1,56 @@
+package com.labcorp.load;
+
+/**
+ * A single named, timed unit of work inside a scenario iteration.
+ * Names mirror the Gherkin step text so reports line up with the feature file.
+ */
+public class LoadStep {
+
+    /**
+     * Step body; any exception or assertion failure counts as an error.
+     */
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    private final String name;
+    private final boolean request;
+    private final Action action;
+
+    /**
+     * Creates a step that talks to the site (page load, click, HTTP request).
+     */
+    public LoadStep(String name, Action action) {
+        this(name, true, action);
+    }
+
+    private LoadStep(String name, boolean request, Action action) {
+        this.name = name;
+        this.request = request;
+        this.action = action;
+    }
+
+    /**
+     * Creates an in-memory check (e.g. an assertion) that sends nothing to the site
+     * and is therefore left out of request throughput.
+     */
+    public static LoadStep check(String name, Action action) {
+        return new LoadStep(name, false, action);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Whether the step sends a request to the site.
+     */
+    public boolean isRequest() {
+        return request;
+    }
+
+    public void run() throws Exception {
+        action.run();
+    }
+}
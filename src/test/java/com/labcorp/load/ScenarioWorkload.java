@@ -0,0 +1,21 @@
+package com.labcorp.load;
+
+import java.util.List;
+
+/**
+ * One virtual user's copy of the careers scenario.
+ * Instances are confined to a single worker thread and are not thread-safe.
+ */
+public interface ScenarioWorkload extends AutoCloseable {
+
+    /**
+     * Returns the steps of one fresh scenario iteration, in execution order.
+     */
+    List<LoadStep> newIteration();
+
+    /**
+     * Releases browsers, connections or other resources held by this user.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,236 @@
+package com.labcorp.perf;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Streams the scenarios out of a Cucumber JSON report (target/cucumber.json).
+ *
+ * The report is one array of features, each holding an "elements" array of
+ * scenarios. Only one scenario is materialized at a time, so memory stays flat
+ * no matter how many scenarios the report contains.
+ */
+public class CucumberJsonReader {
+
+    /**
+     * Result of one step of a scenario.
+     */
+    public static class StepResult {
+
+        private final String name;
+        private final String status;
+        private final long durationNanos;
+
+        StepResult(String name, String status, long durationNanos) {
+            this.name = name;
+            this.status = status;
+            this.durationNanos = durationNanos;
+        }
+
+        /**
+         * Keyword and step text, e.g. "When the user navigates to the Careers page".
+         */
+        public String getName() {
+            return name;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+    }
+
+    /**
+     * Result of one scenario, including its hooks in the duration.
+     */
+    public static class ScenarioResult {
+
+        private final String id;
+        private final String name;
+        private final String status;
+        private final long durationNanos;
+        private final List<StepResult> steps;
+
+        ScenarioResult(String id, String name, String status, long durationNanos, List<StepResult> steps) {
+            this.id = id;
+            this.name = name;
+            this.status = status;
+            this.durationNanos = durationNanos;
+            this.steps = Collections.unmodifiableList(steps);
+        }
+
+        /**
+         * Cucumber's element id, "feature-id;scenario-id", unique across feature files.
+         * Falls back to the scenario name for reports without ids.
+         */
+        public String getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * "passed" if every step and hook passed, otherwise the first other status seen.
+         */
+        public String getStatus() {
+            return status;
+        }
+
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+
+        public List<StepResult> getSteps() {
+            return steps;
+        }
+    }
+
+    /**
+     * Reads the report and hands every scenario to the consumer in report order.
+     *
+     * @param reader   source of the Cucumber JSON report
+     * @param consumer receives each scenario as soon as it is parsed
+     * @return number of scenarios read
+     */
+    public int read(Reader reader, Consumer<ScenarioResult> consumer) {
+        JSONTokener tokener = new JSONTokener(reader);
+        int count = 0;
+        expect(tokener, '[');
+        if (!closes(tokener, ']')) {
+            do {
+                count += readFeature(tokener, consumer);
+            } while (nextSeparator(tokener, ']'));
+        }
+        return count;
+    }
+
+    private int readFeature(JSONTokener tokener, Consumer<ScenarioResult> consumer) {
+        int count = 0;
+        expect(tokener, '{');
+        if (closes(tokener, '}')) {
+            return 0;
+        }
+        do {
+            expect(tokener, '"');
+            String key = tokener.nextString('"');
+            expect(tokener, ':');
+            if ("elements".equals(key)) {
+                count += readScenarios(tokener, consumer);
+            } else {
+                // Key order is not guaranteed; scenarios carry their feature in their own id
+                tokener.nextValue();
+            }
+        } while (nextSeparator(tokener, '}'));
+        return count;
+    }
+
+    private int readScenarios(JSONTokener tokener, Consumer<ScenarioResult> consumer) {
+        int count = 0;
+        expect(tokener, '[');
+        if (closes(tokener, ']')) {
+            return 0;
+        }
+        do {
+            JSONObject element = (JSONObject) tokener.nextValue();
+            // Backgrounds are reported as separate elements; their steps are not scenario results
+            if (!"background".equals(element.optString("type"))) {
+                consumer.accept(toScenario(element));
+                count++;
+            }
+        } while (nextSeparator(tokener, ']'));
+        return count;
+    }
+
+    private static ScenarioResult toScenario(JSONObject element) {
+        List<StepResult> steps = new ArrayList<>();
+        long[] total = new long[1];
+        String[] status = {"passed"};
+
+        addHookResults(element.optJSONArray("before"), total, status);
+        JSONArray stepArray = element.optJSONArray("steps");
+        if (stepArray != null) {
+            for (int i = 0; i < stepArray.length(); i++) {
+                JSONObject step = stepArray.getJSONObject(i);
+                JSONObject result = step.optJSONObject("result");
+                String stepStatus = result != null ? result.optString("status", "unknown") : "unknown";
+                long duration = result != null ? result.optLong("duration", 0L) : 0L;
+                steps.add(new StepResult(
+                        (step.optString("keyword", "").trim() + " " + step.optString("name", "")).trim(),
+                        stepStatus, duration));
+                total[0] += duration;
+                if ("passed".equals(status[0]) && !"passed".equals(stepStatus)) {
+                    status[0] = stepStatus;
+                }
+                addHookResults(step.optJSONArray("before"), total, status);
+                addHookResults(step.optJSONArray("after"), total, status);
+            }
+        }
+        addHookResults(element.optJSONArray("after"), total, status);
+
+        String name = element.optString("name", "");
+        return new ScenarioResult(element.optString("id", name), name, status[0], total[0], steps);
+    }
+
+    /**
+     * Adds hook durations to the scenario total and folds their status into the scenario status.
+     */
+    private static void addHookResults(JSONArray hooks, long[] total, String[] status) {
+        if (hooks == null) {
+            return;
+        }
+        for (int i = 0; i < hooks.length(); i++) {
+            JSONObject result = hooks.getJSONObject(i).optJSONObject("result");
+            if (result != null) {
+                total[0] += result.optLong("duration", 0L);
+                String hookStatus = result.optString("status", "unknown");
+                if ("passed".equals(status[0]) && !"passed".equals(hookStatus)) {
+                    status[0] = hookStatus;
+                }
+            }
+        }
+    }
+
+    private static void expect(JSONTokener tokener, char expected) {
+        char c = tokener.nextClean();
+        if (c != expected) {
+            throw tokener.syntaxError("Expected '" + expected + "' but found '" + c + "'");
+        }
+    }
+
+    /**
+     * Consumes the closing character if it comes next (empty array or object).
+     */
+    private static boolean closes(JSONTokener tokener, char close) {
+        if (tokener.nextClean() == close) {
+            return true;
+        }
+        tokener.back();
+        return false;
+    }
+
+    /**
+     * Consumes a ',' (more entries follow) or the closing character (done).
+     */
+    private static boolean nextSeparator(JSONTokener tokener, char close) {
+        char c = tokener.nextClean();
+        if (c == ',') {
+            return true;
+        }
+        if (c == close) {
+            return false;
+        }
+        throw tokener.syntaxError("Expected ',' or '" + close + "' but found '" + c + "'");
+    }
+}
@@ -0,0 +1,68 @@
+package com.labcorp.perf;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Fixed-precision summary of durations for percentile queries.
+ *
+ * Durations are counted in log-scale buckets 2% wide (in microseconds), so memory
+ * grows with the spread of the durations, never with their number: from 1µs to an
+ * hour is about 1100 buckets at most, and a stable step uses a handful. Percentiles
+ * are nearest-rank over the buckets and answered with the bucket's midpoint, within
+ * 1% of the exact value.
+ */
+public class DurationHistogram {
+
+    private static final double GROWTH = 1.02;
+    private static final double LOG_GROWTH = Math.log(GROWTH);
+
+    // Bucket index -> number of durations; bucket 0 holds everything under 1µs
+    private final TreeMap<Integer, Long> counts = new TreeMap<>();
+    private long count;
+
+    public void add(long durationNanos) {
+        counts.merge(bucket(durationNanos), 1L, Long::sum);
+        count++;
+    }
+
+    /**
+     * Returns the number of durations added.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the nearest-rank percentile in nanoseconds, or 0 when empty.
+     *
+     * @param percentile value in (0, 100]
+     */
+    public long percentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.min(count, Math.max(1, (long) Math.ceil(percentile / 100.0 * count)));
+        long seen = 0;
+        for (Map.Entry<Integer, Long> entry : counts.entrySet()) {
+            seen += entry.getValue();
+            if (seen >= rank) {
+                return midpoint(entry.getKey());
+            }
+        }
+        return midpoint(counts.lastKey());
+    }
+
+    private static int bucket(long durationNanos) {
+        double micros = durationNanos / 1_000.0;
+        return micros < 1 ? 0 : 1 + (int) (Math.log(micros) / LOG_GROWTH);
+    }
+
+    private static long midpoint(int bucket) {
+        if (bucket == 0) {
+            return 0;
+        }
+        double lowerMicros = Math.pow(GROWTH, bucket - 1);
+        return Math.round(lowerMicros * (1 + GROWTH) / 2 * 1_000);
+    }
+}
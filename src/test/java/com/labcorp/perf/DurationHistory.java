@@ -0,0 +1,181 @@
+package com.labcorp.perf;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Local time series of scenario and step durations, one tab-separated line per
+ * measurement: runId, kind (SCENARIO or STEP), name, status, duration in nanoseconds.
+ * Scenarios are named by their Cucumber id so same-named scenarios of different
+ * features stay apart. Lines of a run are appended together, so runs are contiguous
+ * in the file, and each run ends with a RUN line carrying the gate outcome, named
+ * by the fingerprint of the report the run was read from ("-" if unknown).
+ */
+public class DurationHistory {
+
+    public static final String SCENARIO = "SCENARIO";
+    public static final String STEP = "STEP";
+    public static final String RUN = "RUN";
+
+    // Status of the RUN line of a run that may serve as baseline
+    public static final String ACCEPTED = "accepted";
+    public static final String REGRESSED = "regressed";
+
+    private static final String HEADER = "# runId\tkind\tname\tstatus\tdurationNanos";
+
+    private final Path file;
+
+    public DurationHistory(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Builds the key under which a measurement is compared across runs.
+     */
+    public static String key(String kind, String name) {
+        return kind + " " + sanitize(name);
+    }
+
+    /**
+     * Collects passed durations of the most recent accepted runs, keyed by {@link #key(String, String)}.
+     * Runs that regressed, or never recorded an outcome (e.g. an aborted build), are skipped so a
+     * slowdown cannot become its own baseline by re-running the build.
+     * The file is streamed twice (run IDs, then durations) and durations are folded into
+     * one histogram per key, so memory does not grow with the number of runs or samples.
+     *
+     * @param runs number of most recent accepted runs to include
+     */
+    public Map<String, DurationHistogram> readBaseline(int runs) throws IOException {
+        Map<String, DurationHistogram> baseline = new HashMap<>();
+        if (!Files.exists(file) || runs <= 0) {
+            return baseline;
+        }
+
+        Deque<String> recent = new ArrayDeque<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = parse(line);
+                if (fields != null && RUN.equals(fields[1]) && ACCEPTED.equals(fields[3])) {
+                    recent.addLast(fields[0]);
+                    if (recent.size() > runs) {
+                        recent.removeFirst();
+                    }
+                }
+            }
+        }
+        Set<String> window = new HashSet<>(recent);
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = parse(line);
+                if (fields != null && window.contains(fields[0]) && "passed".equals(fields[3])) {
+                    baseline.computeIfAbsent(key(fields[1], fields[2]), k -> new DurationHistogram())
+                            .add(Long.parseLong(fields[4]));
+                }
+            }
+        }
+        return baseline;
+    }
+
+    /**
+     * Returns whether a run read from the report with this fingerprint is in the history.
+     */
+    public boolean containsReport(String reportFingerprint) throws IOException {
+        if (!Files.exists(file) || reportFingerprint == null) {
+            return false;
+        }
+        String name = sanitize(reportFingerprint);
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = parse(line);
+                if (fields != null && RUN.equals(fields[1]) && name.equals(fields[2])) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Opens the history for appending the measurements of one run.
+     */
+    public Appender openAppender(String runId) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        boolean created = !Files.exists(file);
+        BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        if (created) {
+            writer.write(HEADER);
+            writer.newLine();
+        }
+        return new Appender(writer, runId);
+    }
+
+    private static String sanitize(String name) {
+        return name.replaceAll("[\\t\\r\\n]+", " ");
+    }
+
+    /**
+     * Splits a history line, or returns null for comments and malformed lines.
+     */
+    private static String[] parse(String line) {
+        if (line.isEmpty() || line.startsWith("#")) {
+            return null;
+        }
+        String[] fields = line.split("\t", -1);
+        return fields.length == 5 ? fields : null;
+    }
+
+    /**
+     * Writes the lines of one run.
+     */
+    public static class Appender implements Closeable {
+
+        private final BufferedWriter writer;
+        private final String runId;
+
+        private Appender(BufferedWriter writer, String runId) {
+            this.writer = writer;
+            this.runId = runId;
+        }
+
+        /**
+         * Ends the run with its gate outcome.
+         *
+         * @param accepted          whether the run may serve as baseline for later runs
+         * @param regressions       number of regressions the gate found
+         * @param reportFingerprint identifies the ingested report; null if unknown
+         */
+        public void markRun(boolean accepted, int regressions, String reportFingerprint) throws IOException {
+            append(RUN, reportFingerprint == null ? "-" : reportFingerprint,
+                    accepted ? ACCEPTED : REGRESSED, regressions);
+        }
+
+        public void append(String kind, String name, String status, long durationNanos) throws IOException {
+            writer.write(runId + '\t' + kind + '\t' + sanitize(name) + '\t' + status + '\t' + durationNanos);
+            writer.newLine();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+}
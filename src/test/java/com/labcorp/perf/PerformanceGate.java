@@ -0,0 +1,258 @@
+package com.labcorp.perf;
+
+import com.labcorp.utils.TestLogger;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares the durations of the current Cucumber run with a rolling baseline of
+ * earlier runs and flags steps and scenarios whose median or p95 regressed.
+ *
+ * The current report is streamed once: every scenario and step duration is
+ * appended to the DurationHistory and added to a per-key DurationHistogram for the
+ * comparison, as are the baseline durations, so memory stays flat as history grows. The run is
+ * then marked with the gate outcome; runs with regressions are left out of later
+ * baselines unless accepted with perf.accept=true (after an intended slowdown).
+ *
+ * A report is ingested only once: the run records the report's size and modification
+ * time, and a build that skipped the Cucumber tests (skipTests, maven.test.skip or a
+ * -Dtest filter) finds its leftover report already in the history and skips the gate.
+ *
+ * Wired into the build by the "perf-gate" Maven profile, which runs it after the
+ * Cucumber tests. Configured with system properties:
+ * perf.report (target/cucumber.json), perf.history (perf-history/durations.tsv),
+ * perf.baselineRuns (10), perf.threshold (0.20 = 20% slower), perf.minDeltaMillis (50),
+ * perf.minSamples (3), perf.mode (warn | fail), perf.accept (false).
+ */
+public class PerformanceGate {
+
+    /**
+     * A metric of one step or scenario that got slower than the baseline allows.
+     */
+    public static class Regression {
+
+        private final String key;
+        private final String metric;
+        private final double baselineMillis;
+        private final double currentMillis;
+
+        Regression(String key, String metric, double baselineMillis, double currentMillis) {
+            this.key = key;
+            this.metric = metric;
+            this.baselineMillis = baselineMillis;
+            this.currentMillis = currentMillis;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * "median" or "p95".
+         */
+        public String getMetric() {
+            return metric;
+        }
+
+        public double getBaselineMillis() {
+            return baselineMillis;
+        }
+
+        public double getCurrentMillis() {
+            return currentMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %s: %.1fms -> %.1fms (+%.0f%%)", key, metric, baselineMillis, currentMillis,
+                    100.0 * (currentMillis - baselineMillis) / baselineMillis);
+        }
+    }
+
+    private final DurationHistory history;
+    private final int baselineRuns;
+    private final double threshold;
+    private final long minDeltaNanos;
+    private final int minSamples;
+
+    private int scenariosRead;
+    private int compared;
+
+    public PerformanceGate(DurationHistory history, int baselineRuns, double threshold,
+                           long minDeltaNanos, int minSamples) {
+        this.history = history;
+        this.baselineRuns = baselineRuns;
+        this.threshold = threshold;
+        this.minDeltaNanos = minDeltaNanos;
+        this.minSamples = minSamples;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path report = Paths.get(System.getProperty("perf.report", "target/cucumber.json"));
+        Path historyFile = Paths.get(System.getProperty("perf.history", "perf-history/durations.tsv"));
+        boolean failOnRegression = "fail".equalsIgnoreCase(System.getProperty("perf.mode", "warn"));
+
+        if (Boolean.getBoolean("skipTests") || Boolean.getBoolean("maven.test.skip")) {
+            TestLogger.log("⚠️ Performance gate skipped, tests were skipped");
+            return;
+        }
+        if (!Files.exists(report)) {
+            TestLogger.log("⚠️ Performance gate skipped, no Cucumber report at " + report);
+            return;
+        }
+
+        PerformanceGate gate = new PerformanceGate(
+                new DurationHistory(historyFile),
+                Integer.getInteger("perf.baselineRuns", 10),
+                Double.parseDouble(System.getProperty("perf.threshold", "0.20")),
+                Long.getLong("perf.minDeltaMillis", 50L) * 1_000_000L,
+                Integer.getInteger("perf.minSamples", 3));
+
+        String fingerprint = reportFingerprint(report);
+        if (gate.alreadyIngested(fingerprint)) {
+            TestLogger.log("⚠️ Performance gate skipped, " + report
+                    + " was already ingested (left over from an earlier build?)");
+            return;
+        }
+
+        List<Regression> regressions;
+        try (Reader reader = Files.newBufferedReader(report, StandardCharsets.UTF_8)) {
+            regressions = gate.evaluate(reader, Instant.now().toString(), Boolean.getBoolean("perf.accept"),
+                    fingerprint);
+        }
+
+        TestLogger.log(String.format("📈 Performance gate: %d scenarios ingested, %d durations compared, %d regressions",
+                gate.getScenariosRead(), gate.getCompared(), regressions.size()));
+        for (Regression regression : regressions) {
+            TestLogger.log((failOnRegression ? "❌ " : "⚠️ ") + regression);
+        }
+        if (failOnRegression && !regressions.isEmpty()) {
+            throw new IllegalStateException(regressions.size() + " performance regression(s) beyond "
+                    + Math.round(gate.threshold * 100) + "% of the rolling baseline");
+        }
+    }
+
+    /**
+     * Identifies a report file by size and modification time, which change with every
+     * Cucumber run that rewrites it.
+     */
+    public static String reportFingerprint(Path report) throws IOException {
+        return Files.size(report) + "@" + Files.getLastModifiedTime(report).toMillis();
+    }
+
+    /**
+     * Returns whether a run already ingested the report with this fingerprint.
+     */
+    public boolean alreadyIngested(String reportFingerprint) throws IOException {
+        return history.containsReport(reportFingerprint);
+    }
+
+    /**
+     * Ingests a Cucumber JSON report as the run with the given ID and returns the
+     * regressions against the baseline of earlier runs. Only a run without
+     * regressions becomes part of later baselines.
+     *
+     * @param report reader over the Cucumber JSON report
+     * @param runId  identifier of this run in the history; sortable, e.g. an ISO timestamp
+     */
+    public List<Regression> evaluate(Reader report, String runId) throws IOException {
+        return evaluate(report, runId, false);
+    }
+
+    /**
+     * Like {@link #evaluate(Reader, String)}, but with accept set the run joins later
+     * baselines even if it regressed, to adopt an intended slowdown as the new normal.
+     */
+    public List<Regression> evaluate(Reader report, String runId, boolean accept) throws IOException {
+        return evaluate(report, runId, accept, null);
+    }
+
+    /**
+     * Like {@link #evaluate(Reader, String, boolean)}, recording the report's fingerprint
+     * so the same report is not ingested again.
+     *
+     * @param reportFingerprint see {@link #reportFingerprint(Path)}; null if unknown
+     */
+    public List<Regression> evaluate(Reader report, String runId, boolean accept, String reportFingerprint)
+            throws IOException {
+        Map<String, DurationHistogram> baseline = history.readBaseline(baselineRuns);
+        Map<String, DurationHistogram> current = new HashMap<>();
+
+        try (DurationHistory.Appender appender = history.openAppender(runId)) {
+            IOException[] failure = new IOException[1];
+            scenariosRead = new CucumberJsonReader().read(report, scenario -> {
+                if (failure[0] != null) {
+                    return;
+                }
+                try {
+                    appender.append(DurationHistory.SCENARIO, scenario.getId(),
+                            scenario.getStatus(), scenario.getDurationNanos());
+                    collect(current, DurationHistory.SCENARIO, scenario.getId(),
+                            scenario.getStatus(), scenario.getDurationNanos());
+                    for (CucumberJsonReader.StepResult step : scenario.getSteps()) {
+                        appender.append(DurationHistory.STEP, step.getName(), step.getStatus(), step.getDurationNanos());
+                        collect(current, DurationHistory.STEP, step.getName(), step.getStatus(), step.getDurationNanos());
+                    }
+                } catch (IOException e) {
+                    failure[0] = e;
+                }
+            });
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+
+            List<Regression> regressions = compare(baseline, current);
+            appender.markRun(accept || regressions.isEmpty(), regressions.size(), reportFingerprint);
+            return regressions;
+        }
+    }
+
+    private static void collect(Map<String, DurationHistogram> current, String kind, String name,
+                                String status, long durationNanos) {
+        // Failed or skipped steps end early and would only add noise
+        if ("passed".equals(status)) {
+            current.computeIfAbsent(DurationHistory.key(kind, name), k -> new DurationHistogram()).add(durationNanos);
+        }
+    }
+
+    private List<Regression> compare(Map<String, DurationHistogram> baseline, Map<String, DurationHistogram> current) {
+        List<Regression> regressions = new ArrayList<>();
+        compared = 0;
+        for (Map.Entry<String, DurationHistogram> entry : new TreeMap<>(current).entrySet()) {
+            DurationHistogram base = baseline.get(entry.getKey());
+            if (base == null || base.getCount() < minSamples) {
+                continue;
+            }
+            compared++;
+            DurationHistogram now = entry.getValue();
+            check(regressions, entry.getKey(), "median", base.percentile(50), now.percentile(50));
+            check(regressions, entry.getKey(), "p95", base.percentile(95), now.percentile(95));
+        }
+        return regressions;
+    }
+
+    private void check(List<Regression> regressions, String key, String metric, long baselineNanos, long currentNanos) {
+        if (currentNanos - baselineNanos >= minDeltaNanos && currentNanos > baselineNanos * (1.0 + threshold)) {
+            regressions.add(new Regression(key, metric, baselineNanos / 1e6, currentNanos / 1e6));
+        }
+    }
+
+    public int getScenariosRead() {
+        return scenariosRead;
+    }
+
+    public int getCompared() {
+        return compared;
+    }
+}
@@ -0,0 +1,53 @@
+package com.labcorp.unit;
+
+import com.labcorp.perf.DurationHistogram;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DurationHistogramTest {
+
+    @Test
+    void testPercentilesStayWithinOnePercent() {
+        Random random = new Random(42);
+        long[] samples = new long[10_000];
+        DurationHistogram histogram = new DurationHistogram();
+        for (int i = 0; i < samples.length; i++) {
+            // 50ms to 5s, log-uniform like step durations
+            samples[i] = (long) (50_000_000L * Math.pow(100, random.nextDouble()));
+            histogram.add(samples[i]);
+        }
+        Arrays.sort(samples);
+
+        assertEquals(samples.length, histogram.getCount());
+        for (double percentile : new double[]{1, 50, 95, 99, 100}) {
+            long exact = samples[(int) Math.ceil(percentile / 100.0 * samples.length) - 1];
+            assertEquals(exact, histogram.percentile(percentile), exact * 0.01, "p" + percentile);
+        }
+    }
+
+    @Test
+    void testNearestRankOnFewSamples() {
+        DurationHistogram histogram = new DurationHistogram();
+        histogram.add(300_000_000L);
+        histogram.add(300_000_000L);
+        histogram.add(900_000_000L);
+
+        assertEquals(300_000_000L, histogram.percentile(50), 3_000_000L);
+        assertEquals(900_000_000L, histogram.percentile(95), 9_000_000L);
+    }
+
+    @Test
+    void testEmptyAndSubMicrosecondDurations() {
+        DurationHistogram histogram = new DurationHistogram();
+        assertEquals(0, histogram.percentile(50));
+
+        histogram.add(0);
+        histogram.add(500);
+        assertEquals(2, histogram.getCount());
+        assertEquals(0, histogram.percentile(100));
+    }
+}
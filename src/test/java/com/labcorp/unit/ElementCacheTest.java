@@ -0,0 +1,294 @@
+package com.labcorp.unit;
+
+import com.labcorp.pages.ElementCache;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ElementCacheTest {
+
+    private final By searchBox = By.cssSelector("input[placeholder='Search job title or location']");
+    private final By searchButton = By.id("search");
+    private final By careersLink = By.linkText("Careers");
+    private final By byName = By.name("q");
+
+    /**
+     * In-memory stand-in for a browser: a document of nodes keyed by locator,
+     * answering findElement and the cache's batch script.
+     */
+    private static class FakeBrowser {
+
+        private final Map<String, Node> document = new HashMap<>();
+        private String documentToken;
+        private final Map<String, Integer> staleLookups = new HashMap<>();
+        private int findElementCalls;
+        private int scriptCalls;
+
+        void put(By locator) {
+            document.put(locator.toString(), new Node());
+        }
+
+        /**
+         * Replaces one element within the same document, e.g. after a re-render.
+         */
+        void rerender(By locator) {
+            document.get(locator.toString()).stale = true;
+            put(locator);
+        }
+
+        /**
+         * Keeps re-rendering an element: the next lookups each return a node that
+         * is replaced before the caller can use it.
+         */
+        void rerenderOnLookup(By locator, int lookups) {
+            staleLookups.put(locator.toString(), lookups);
+        }
+
+        /**
+         * Navigates: every node goes stale and the document loses the cache's token.
+         */
+        void navigate() {
+            List<String> keys = new ArrayList<>(document.keySet());
+            for (String key : keys) {
+                document.get(key).stale = true;
+                document.put(key, new Node());
+            }
+            documentToken = null;
+        }
+
+        WebDriver driver() {
+            return (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{WebDriver.class, JavascriptExecutor.class}, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "findElement":
+                                findElementCalls++;
+                                String key = args[0].toString();
+                                Node node = document.get(key);
+                                if (node == null) {
+                                    throw new NoSuchElementException(key);
+                                }
+                                int remaining = staleLookups.getOrDefault(key, 0);
+                                if (remaining > 0) {
+                                    staleLookups.put(key, remaining - 1);
+                                    node.stale = true;
+                                    document.put(key, new Node());
+                                }
+                                return node.element;
+                            case "executeScript":
+                                scriptCalls++;
+                                return runBatchScript((Object[]) args[1]);
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    });
+        }
+
+        private List<Object> runBatchScript(Object[] args) {
+            if (documentToken == null) {
+                documentToken = (String) args[0];
+            }
+            List<Object> result = new ArrayList<>();
+            result.add(documentToken);
+            for (int i = 1; i < args.length; i += 2) {
+                Node node = document.get(toBy((String) args[i], (String) args[i + 1]).toString());
+                result.add(node == null ? null : node.element);
+            }
+            return result;
+        }
+
+        private static By toBy(String kind, String value) {
+            switch (kind) {
+                case "css":
+                    return By.cssSelector(value);
+                case "id":
+                    return By.id(value);
+                case "xpath":
+                    return By.xpath(value);
+                case "linkText":
+                    return By.linkText(value);
+                case "partialLinkText":
+                    return By.partialLinkText(value);
+                default:
+                    throw new IllegalArgumentException(kind);
+            }
+        }
+    }
+
+    private static class Node {
+
+        private boolean stale;
+        private int clicks;
+        private final WebElement element = (WebElement) Proxy.newProxyInstance(Node.class.getClassLoader(),
+                new Class<?>[]{WebElement.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return "FakeElement";
+                        case "click":
+                            if (stale) {
+                                throw new StaleElementReferenceException("stale");
+                            }
+                            clicks++;
+                            return null;
+                        case "isDisplayed":
+                            if (stale) {
+                                throw new StaleElementReferenceException("stale");
+                            }
+                            return true;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    @Test
+    void testGetReusesHandleWithoutRoundTrip() {
+        FakeBrowser browser = new FakeBrowser();
+        browser.put(careersLink);
+        ElementCache cache = new ElementCache(browser.driver());
+
+        WebElement first = cache.get(careersLink);
+        WebElement second = cache.get(careersLink);
+
+        assertSame(first, second);
+        assertEquals(1, browser.findElementCalls);
+        ElementCache.Stats stats = cache.getStats();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(1, stats.getRoundTrips());
+        assertEquals(0.5, stats.getHitRatio(), 0.001);
+    }
+
+    @Test
+    void testApplyRetriesOnceOnStaleHandle() {
+        FakeBrowser browser = new FakeBrowser();
+        browser.put(careersLink);
+        ElementCache cache = new ElementCache(browser.driver());
+        cache.get(careersLink);
+
+        browser.rerender(careersLink);
+        cache.click(careersLink);
+
+        assertEquals(1, browser.document.get(careersLink.toString()).clicks);
+        assertEquals(2, browser.findElementCalls);
+        assertEquals(1, cache.getStats().getEvictions());
+    }
+
+    @Test
+    void testApplyGivesUpAfterOneRetry() {
+        FakeBrowser browser = new FakeBrowser();
+        browser.put(careersLink);
+        ElementCache cache = new ElementCache(browser.driver());
+
+        assertThrows(StaleElementReferenceException.class, () -> cache.apply(careersLink, element -> {
+            throw new StaleElementReferenceException("always stale");
+        }));
+        assertEquals(2, browser.findElementCalls);
+    }
+
+    @Test
+    void testWaitUntilKeepsPollingWhileElementIsReRendered() {
+        FakeBrowser browser = new FakeBrowser();
+        browser.put(careersLink);
+        WebDriver driver = browser.driver();
+        ElementCache cache = new ElementCache(driver);
+        // Two polls, each seeing a stale handle on the first try and on the retry
+        browser.rerenderOnLookup(careersLink, 4);
+
+        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5), Duration.ofMillis(10));
+        WebElement link = cache.waitUntil(wait, careersLink, WebElement::isDisplayed);
+
+        assertSame(browser.document.get(careersLink.toString()).element, link);
+        assertEquals(5, browser.findElementCalls);
+        assertEquals(4, cache.getStats().getEvictions());
+    }
+
+    @Test
+    void testResolveAllBatchesSupportedLocators() {
+        FakeBrowser browser = new FakeBrowser();
+        browser.put(searchBox);
+        browser.put(searchButton);
+        browser.put(careersLink);
+        browser.put(byName);
+        ElementCache cache = new ElementCache(browser.driver());
+
+        Map<By, WebElement> found = cache.resolveAll(searchBox, searchButton, careersLink, byName);
+
+        assertEquals(4, found.size());
+        assertEquals(1, browser.scriptCalls);
+        // By.name has no batch form and falls back to findElement
+        assertEquals(1, browser.findElementCalls);
+        assertEquals(2, cache.getStats().getRoundTrips());
+        assertEquals(4, cache.getStats().getMisses());
+
+        // The handles are cached for later single lookups
+        assertSame(found.get(searchButton), cache.get(searchButton));
+        assertEquals(1, cache.getStats().getHits());
+    }
+
+    @Test
+    void testResolveAllKeepsLiveHandlesAndOmitsMissing() {
+        FakeBrowser browser = new FakeBrowser();
+        browser.put(searchBox);
+        ElementCache cache = new ElementCache(browser.driver());
+        WebElement box = cache.resolveAll(searchBox).get(searchBox);
+
+        Map<By, WebElement> found = cache.resolveAll(searchBox, searchButton);
+
+        assertSame(box, found.get(searchBox));
+        assertFalse(found.containsKey(searchButton));
+        assertEquals(1, cache.getStats().getHits());
+        assertEquals(0, cache.getStats().getEvictions());
+    }
+
+    @Test
+    void testDocumentReplacementDropsWholeCache() {
+        FakeBrowser browser = new FakeBrowser();
+        browser.put(searchBox);
+        browser.put(careersLink);
+        ElementCache cache = new ElementCache(browser.driver());
+        cache.resolveAll(searchBox);
+        WebElement oldLink = cache.get(careersLink);
+
+        browser.navigate();
+        Map<By, WebElement> found = cache.resolveAll(searchBox);
+
+        assertNotSame(oldLink, cache.get(careersLink));
+        assertTrue(found.get(searchBox).isDisplayed());
+        assertEquals(2, cache.getStats().getEvictions());
+    }
+
+    @Test
+    void testInvalidateCountsDroppedHandles() {
+        FakeBrowser browser = new FakeBrowser();
+        browser.put(careersLink);
+        browser.put(searchButton);
+        ElementCache cache = new ElementCache(browser.driver());
+        cache.get(careersLink);
+        cache.get(searchButton);
+
+        cache.invalidate();
+        cache.get(careersLink);
+
+        assertEquals(2, cache.getStats().getEvictions());
+        assertEquals(3, cache.getStats().getMisses());
+        assertEquals(0, cache.getStats().getHits());
+    }
+}
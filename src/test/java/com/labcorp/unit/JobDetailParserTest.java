@@ -0,0 +1,60 @@
+package com.labcorp.unit;
+
+import com.labcorp.pages.JobDetailParser;
+import org.json.JSONException;
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JobDetailParserTest {
+
+    private static final String JOB_JSON = "{\"identifier\":{\"value\":\"21-90119\"},"
+            + "\"title\":\"Method Developer\","
+            + "\"jobLocation\":{\"address\":{\"addressLocality\":\"Harrogate \",\"addressRegion\":\"\",\"addressCountry\":\"GB\"}},"
+            + "\"description\":\"&lt;h3&gt;Skills&lt;/h3&gt;&lt;ul&gt;&lt;li&gt;One&lt;/li&gt;&lt;li&gt;Two&lt;/li&gt;&lt;/ul&gt;\"}";
+
+    @Test
+    void testParseJobData() {
+        JobDetailParser parser = new JobDetailParser();
+        parser.parseJobData(JOB_JSON);
+
+        assertEquals("Method Developer", parser.getJobTitle());
+        assertEquals("21-90119", parser.getJobId());
+        assertEquals("Harrogate, GB", parser.getJobLocation());
+        assertEquals("Two", parser.getSecondBulletUnderHeader("Skills"));
+    }
+
+    @Test
+    void testParseReplacesPreviousJobContent() {
+        JobDetailParser parser = new JobDetailParser();
+        parser.parseJobData(JOB_JSON);
+
+        parser.parseDescriptionContent("<p>Only a paragraph.</p>");
+
+        assertNull(parser.getSecondBulletUnderHeader("Skills"));
+        assertTrue(parser.getSecondBulletsByHeader().isEmpty());
+    }
+
+    @Test
+    void testParseJobDataRejectsMissingLocation() {
+        JobDetailParser parser = new JobDetailParser();
+
+        assertThrows(JSONException.class, () -> parser.parseJobData(
+                "{\"identifier\":{\"value\":\"1\"},\"title\":\"Chemist\",\"description\":\"\"}"));
+    }
+
+    @Test
+    void testExtractJobJsonReadsSecondHeadScript() {
+        String html = "<html><head><script>var ph = {};</script><script>" + JOB_JSON + "</script></head></html>";
+
+        assertEquals(JOB_JSON, JobDetailParser.extractJobJson(Jsoup.parse(html)));
+        assertNull(JobDetailParser.extractJobJson(Jsoup.parse("<html><head><script>{}</script></head></html>")));
+    }
+
+    @Test
+    void testSearchResultsUrlIsRelativeToCareersPage() {
+        assertEquals("https://careers.labcorp.com/global/en/search-results?keywords=Method+Developer",
+                JobDetailParser.searchResultsUrl("https://careers.labcorp.com/global/en/", "Method Developer"));
+    }
+}
@@ -0,0 +1,117 @@
+package com.labcorp.unit;
+
+import com.labcorp.snapshot.JobPosting;
+import com.labcorp.snapshot.JobSnapshotStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JobSnapshotStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private static JobPosting posting(String id, String title, String etag) {
+        return new JobPosting(id, title, "Harrogate, England, GB", new byte[]{1, 2, 3},
+                Map.of("skills and experience:", "GC-MS"), "https://example.test/job/" + id, etag, null);
+    }
+
+    @Test
+    void testPostingsSurviveReopen() throws Exception {
+        Path file = dir.resolve("search.jobs");
+        try (JobSnapshotStore store = JobSnapshotStore.open(file)) {
+            store.put(posting("1", "Method Developer", "\"a\""));
+            store.put(posting("2", "Chemist", null));
+            store.put(posting("1", "Senior Method Developer", "\"b\""));
+            store.remove("2");
+        }
+
+        try (JobSnapshotStore store = JobSnapshotStore.open(file)) {
+            assertEquals(1, store.size());
+            assertFalse(store.contains("2"));
+            assertEquals(posting("1", "Senior Method Developer", "\"b\""), store.get("1"));
+        }
+    }
+
+    @Test
+    void testIndexIsRebuiltWhenMissing() throws Exception {
+        Path file = dir.resolve("search.jobs");
+        try (JobSnapshotStore store = JobSnapshotStore.open(file)) {
+            store.put(posting("1", "Method Developer", "\"a\""));
+            store.put(posting("2", "Chemist", null));
+        }
+        Files.delete(dir.resolve("search.jobs.idx"));
+
+        try (JobSnapshotStore store = JobSnapshotStore.open(file)) {
+            assertEquals(2, store.size());
+            assertEquals("Chemist", store.get("2").getTitle());
+        }
+    }
+
+    @Test
+    void testTornTailIsTruncated() throws Exception {
+        Path file = dir.resolve("search.jobs");
+        try (JobSnapshotStore store = JobSnapshotStore.open(file)) {
+            store.put(posting("1", "Method Developer", "\"a\""));
+            store.put(posting("2", "Chemist", null));
+        }
+        Files.delete(dir.resolve("search.jobs.idx"));
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(raf.length() - 3);
+        }
+
+        try (JobSnapshotStore store = JobSnapshotStore.open(file)) {
+            assertEquals(1, store.size());
+            assertEquals("Method Developer", store.get("1").getTitle());
+            store.put(posting("3", "Analyst", null));
+            assertEquals("Analyst", store.get("3").getTitle());
+        }
+    }
+
+    @Test
+    void testCorruptRecordIsDetectedOnRead() throws Exception {
+        Path file = dir.resolve("search.jobs");
+        try (JobSnapshotStore store = JobSnapshotStore.open(file)) {
+            store.put(posting("1", "Method Developer", "\"a\""));
+            store.put(posting("2", "Chemist", null));
+        }
+        // Flip a byte inside the first record's payload; the saved index still matches the file length
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(20);
+            int b = raf.read();
+            raf.seek(20);
+            raf.write(b ^ 0xFF);
+        }
+
+        try (JobSnapshotStore store = JobSnapshotStore.open(file)) {
+            assertEquals(2, store.size());
+            assertThrows(IOException.class, () -> store.get("1"));
+            assertEquals("Chemist", store.get("2").getTitle());
+        }
+    }
+
+    @Test
+    void testCompactKeepsOnlyLivePostings() throws Exception {
+        Path file = dir.resolve("search.jobs");
+        try (JobSnapshotStore store = JobSnapshotStore.open(file)) {
+            for (int i = 0; i < 10; i++) {
+                store.put(posting("1", "Title " + i, null));
+            }
+            assertTrue(store.needsCompaction());
+            long before = Files.size(file);
+
+            store.compact();
+
+            assertFalse(store.needsCompaction());
+            assertTrue(Files.size(file) < before);
+            assertEquals("Title 9", store.get("1").getTitle());
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.labcorp.unit;
+
+import com.labcorp.snapshot.JobSnapshotStore;
+import com.labcorp.snapshot.JobSnapshotSync;
+import com.labcorp.snapshot.SnapshotDiff;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs JobSnapshotSync against a local stand-in of the careers site serving a
+ * paginated listing and job detail pages with ETags.
+ */
+public class JobSnapshotSyncTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    @TempDir
+    Path dir;
+
+    private HttpServer server;
+    private String searchUrl;
+
+    // Served jobs in listing order: ID -> [title, city, description]
+    private final Map<String, String[]> jobs = new ConcurrentHashMap<>();
+    private final List<String> listingOrder = new ArrayList<>();
+    // Jobs whose detail page serves JSON without a jobLocation
+    private final Set<String> brokenJobs = ConcurrentHashMap.newKeySet();
+    private volatile boolean sendEtags = true;
+    private final AtomicInteger fullResponses = new AtomicInteger();
+    private final AtomicInteger notModifiedResponses = new AtomicInteger();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/careers/search-results", this::serveListing);
+        server.createContext("/job/", this::serveJob);
+        server.start();
+        searchUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/careers/search-results?keywords=chemist";
+
+        for (int i = 1; i <= 5; i++) {
+            addJob(String.valueOf(i), "Chemist " + i, "Harrogate", "<p>Description " + i + "</p>");
+        }
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    private void addJob(String id, String title, String city, String description) {
+        jobs.put(id, new String[]{title, city, description});
+        synchronized (listingOrder) {
+            if (!listingOrder.contains(id)) {
+                listingOrder.add(id);
+            }
+        }
+    }
+
+    private void serveListing(HttpExchange exchange) throws IOException {
+        String query = exchange.getRequestURI().getQuery();
+        int from = query != null && query.contains("from=")
+                ? Integer.parseInt(query.substring(query.indexOf("from=") + 5)) : 0;
+        List<String> ids;
+        synchronized (listingOrder) {
+            ids = new ArrayList<>(listingOrder);
+        }
+
+        StringBuilder html = new StringBuilder("<html><body><span data-ph-id='ph-page-element-page11-CRdnpK'>");
+        for (int i = from; i < Math.min(ids.size(), from + PAGE_SIZE); i++) {
+            String id = ids.get(i);
+            html.append("<a class='au-target' href='/job/").append(id)
+                    .append("' data-ph-at-job-id-text='").append(id).append("'>Job</a>");
+        }
+        html.append("</span>");
+        if (from + PAGE_SIZE < ids.size()) {
+            html.append("<a rel='next' href='search-results?keywords=chemist&from=")
+                    .append(from + PAGE_SIZE).append("'>Next</a>");
+        }
+        respond(exchange, 200, html.append("</body></html>").toString(), null);
+    }
+
+    private void serveJob(HttpExchange exchange) throws IOException {
+        String id = exchange.getRequestURI().getPath().substring("/job/".length());
+        String[] job = jobs.get(id);
+        if (job == null) {
+            respond(exchange, 404, "", null);
+            return;
+        }
+        boolean broken = brokenJobs.contains(id);
+        String etag = "\"" + Integer.toHexString((String.join("|", job) + broken).hashCode()) + "\"";
+        if (sendEtags && etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            notModifiedResponses.incrementAndGet();
+            respond(exchange, 304, null, etag);
+            return;
+        }
+
+        JSONObject address = new JSONObject()
+                .put("addressLocality", job[1]).put("addressRegion", "England").put("addressCountry", "GB");
+        String json = "{\"identifier\":" + new JSONObject().put("value", id)
+                + ",\"title\":" + JSONObject.quote(job[0])
+                + (broken ? "" : ",\"jobLocation\":" + new JSONObject().put("address", address))
+                + ",\"description\":" + JSONObject.quote(job[2]) + "}";
+        fullResponses.incrementAndGet();
+        respond(exchange, 200, "<html><head><script>var ph = {};</script><script>" + json
+                + "</script></head><body></body></html>", sendEtags ? etag : null);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body, String etag) throws IOException {
+        if (etag != null) {
+            exchange.getResponseHeaders().set("ETag", etag);
+        }
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+            return;
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private SnapshotDiff sync() throws Exception {
+        try (JobSnapshotStore store = JobSnapshotStore.open(dir.resolve("chemist.jobs"))) {
+            return new JobSnapshotSync(HttpClient.newHttpClient(), store, 4, 0.5).sync(searchUrl);
+        }
+    }
+
+    private void resetCounters() {
+        fullResponses.set(0);
+        notModifiedResponses.set(0);
+    }
+
+    @Test
+    void testFirstRunAddsEveryPageOfResults() throws Exception {
+        SnapshotDiff diff = sync();
+
+        assertEquals(5, diff.getAdded().size());
+        assertEquals(5, diff.getParsed());
+        assertTrue(diff.getRemoved().isEmpty());
+        assertTrue(diff.getChanged().isEmpty());
+    }
+
+    @Test
+    void testUnchangedRunIsRevalidatedWithoutParsing() throws Exception {
+        sync();
+        resetCounters();
+
+        SnapshotDiff diff = sync();
+
+        assertFalse(diff.hasChanges());
+        assertEquals(5, diff.getUnchanged());
+        assertEquals(5, diff.getNotModified());
+        assertEquals(0, diff.getParsed());
+        assertEquals(0, fullResponses.get());
+        assertEquals(5, notModifiedResponses.get());
+    }
+
+    @Test
+    void testWithoutValidatorsHashFastPathSkipsParsing() throws Exception {
+        sendEtags = false;
+        sync();
+
+        SnapshotDiff diff = sync();
+
+        assertFalse(diff.hasChanges());
+        assertEquals(5, diff.getUnchanged());
+        assertEquals(0, diff.getNotModified());
+        assertEquals(0, diff.getParsed());
+    }
+
+    @Test
+    void testChangedDescriptionIsReparsed() throws Exception {
+        sync();
+        addJob("3", "Chemist 3", "Harrogate", "<p>Rewritten description</p>");
+
+        SnapshotDiff diff = sync();
+
+        assertEquals(1, diff.getChanged().size());
+        assertEquals("3", diff.getChanged().get(0).getJobId());
+        assertEquals(1, diff.getParsed());
+        assertEquals(4, diff.getNotModified());
+    }
+
+    @Test
+    void testLocationOnlyChangeIsDetected() throws Exception {
+        sync();
+        addJob("2", "Chemist 2", "Leeds", "<p>Description 2</p>");
+
+        SnapshotDiff diff = sync();
+
+        assertEquals(1, diff.getChanged().size());
+        assertEquals("Leeds, England, GB", diff.getChanged().get(0).getLocation());
+
+        // The move is stored, so the next run revalidates it as unchanged
+        SnapshotDiff next = sync();
+        assertFalse(next.hasChanges());
+        assertEquals(5, next.getNotModified());
+    }
+
+    @Test
+    void testJobMissingFromListingIsRemoved() throws Exception {
+        sync();
+        synchronized (listingOrder) {
+            listingOrder.remove("5");
+        }
+
+        SnapshotDiff diff = sync();
+
+        assertEquals(1, diff.getRemoved().size());
+        assertEquals("5", diff.getRemoved().get(0).getJobId());
+        assertNull(diff.getWithheldReason());
+    }
+
+    @Test
+    void testMalformedJobPageKeepsSnapshotAndRunContinues() throws Exception {
+        sync();
+        brokenJobs.add("2");
+        addJob("3", "Chemist 3", "Harrogate", "<p>Rewritten description</p>");
+        addJob("6", "Chemist 6", "Harrogate", "<p>Description 6</p>");
+        brokenJobs.add("6");
+        synchronized (listingOrder) {
+            listingOrder.remove("5");
+        }
+
+        SnapshotDiff diff = sync();
+
+        assertEquals(1, diff.getChanged().size());
+        assertEquals("3", diff.getChanged().get(0).getJobId());
+        assertEquals(1, diff.getRemoved().size());
+        assertTrue(diff.getAdded().isEmpty());
+        try (JobSnapshotStore store = JobSnapshotStore.open(dir.resolve("chemist.jobs"))) {
+            assertEquals("Chemist 2", store.get("2").getTitle());
+            assertFalse(store.contains("6"));
+            assertEquals(4, store.size());
+        }
+    }
+
+    @Test
+    void testEmptyListingKeepsSnapshot() throws Exception {
+        sync();
+        synchronized (listingOrder) {
+            listingOrder.clear();
+        }
+
+        SnapshotDiff diff = sync();
+
+        assertTrue(diff.getRemoved().isEmpty());
+        assertEquals(5, diff.getWithheldRemovals());
+        assertNotNull(diff.getWithheldReason());
+        try (JobSnapshotStore store = JobSnapshotStore.open(dir.resolve("chemist.jobs"))) {
+            assertEquals(5, store.size());
+        }
+    }
+
+    @Test
+    void testMassRemovalIsWithheld() throws Exception {
+        sync();
+        synchronized (listingOrder) {
+            listingOrder.subList(1, 5).clear();
+        }
+
+        SnapshotDiff diff = sync();
+
+        assertTrue(diff.getRemoved().isEmpty());
+        assertEquals(4, diff.getWithheldRemovals());
+    }
+}
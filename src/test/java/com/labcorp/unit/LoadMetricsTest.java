@@ -0,0 +1,72 @@
+package com.labcorp.unit;
+
+import com.labcorp.load.LoadMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoadMetricsTest {
+
+    private static final long WINDOW = TimeUnit.SECONDS.toNanos(10);
+
+    @Test
+    void testStepPercentiles() {
+        LoadMetrics metrics = new LoadMetrics(0L, WINDOW);
+        for (int ms = 1; ms <= 100; ms++) {
+            metrics.recordStep("search", true, 0L, TimeUnit.MILLISECONDS.toNanos(ms), true);
+        }
+
+        assertEquals(50.0, metrics.getStepPercentileMillis("search", 50), 0.001);
+        assertEquals(95.0, metrics.getStepPercentileMillis("search", 95), 0.001);
+        assertEquals(100.0, metrics.getStepPercentileMillis("search", 100), 0.001);
+        assertTrue(Double.isNaN(metrics.getStepPercentileMillis("unknown", 50)));
+    }
+
+    @Test
+    void testErrorsAndWindowsAreCounted() {
+        LoadMetrics metrics = new LoadMetrics(0L, WINDOW);
+        metrics.recordStep("open", true, TimeUnit.SECONDS.toNanos(1), 1_000_000L, true);
+        metrics.recordStep("open", true, TimeUnit.SECONDS.toNanos(15), 1_000_000L, false);
+        metrics.recordIteration(true);
+        metrics.recordIteration(false);
+        metrics.recordDroppedArrival();
+
+        assertEquals(2, metrics.getTotalRequests());
+        assertEquals(2, metrics.getTotalSteps());
+        assertEquals(1, metrics.getTotalErrors());
+        assertEquals(1, metrics.getFailedIterations());
+        assertEquals(1, metrics.getDroppedArrivals());
+
+        String report = metrics.report(TimeUnit.SECONDS.toNanos(20));
+        assertTrue(report.contains("0s-10s"));
+        assertTrue(report.contains("10s-20s"));
+    }
+
+    @Test
+    void testChecksAreNotCountedAsRequests() {
+        LoadMetrics metrics = new LoadMetrics(0L, WINDOW);
+        metrics.recordStep("open", true, 0L, 1_000_000L, true);
+        metrics.recordStep("title should match", false, 0L, 1_000L, false);
+
+        assertEquals(1, metrics.getTotalRequests());
+        assertEquals(2, metrics.getTotalSteps());
+        assertEquals(1, metrics.getTotalErrors());
+    }
+
+    @Test
+    void testEmptyWindowsAreReported() {
+        LoadMetrics metrics = new LoadMetrics(0L, WINDOW);
+        metrics.recordStep("open", true, TimeUnit.SECONDS.toNanos(1), 1_000_000L, true);
+        metrics.recordStep("open", true, TimeUnit.SECONDS.toNanos(35), 1_000_000L, true);
+
+        String report = metrics.report(TimeUnit.SECONDS.toNanos(50));
+
+        // Nothing completed between 10s and 30s, or after 40s, yet every window gets a row
+        assertTrue(report.contains("10s-20s"));
+        assertTrue(report.contains("20s-30s"));
+        assertTrue(report.contains("40s-50s"));
+        assertFalse(report.contains("50s-60s"));
+    }
+}
@@ -0,0 +1,153 @@
+package com.labcorp.unit;
+
+import com.labcorp.load.LoadConfig;
+import com.labcorp.load.LoadMetrics;
+import com.labcorp.load.LoadRunner;
+import com.labcorp.load.LoadStep;
+import com.labcorp.load.ScenarioWorkload;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoadRunnerTest {
+
+    /**
+     * Scenario of one request step that sleeps for a fixed time, counting iterations and closes.
+     */
+    private static class FakeWorkload implements ScenarioWorkload {
+
+        private final long stepMillis;
+        private final AtomicInteger iterations = new AtomicInteger();
+        private final AtomicInteger closes = new AtomicInteger();
+
+        FakeWorkload(long stepMillis) {
+            this.stepMillis = stepMillis;
+        }
+
+        @Override
+        public List<LoadStep> newIteration() {
+            iterations.incrementAndGet();
+            return List.of(new LoadStep("sleep", () -> Thread.sleep(stepMillis)));
+        }
+
+        @Override
+        public void close() {
+            closes.incrementAndGet();
+        }
+    }
+
+    private static LoadConfig config(int users, LoadConfig.Model model, double arrivalRate, Duration grace) {
+        return new LoadConfig(users, Duration.ofSeconds(1), model, arrivalRate, LoadConfig.DriverMode.HTTP,
+                "Method Developer", Duration.ofMillis(500), grace);
+    }
+
+    private static void assertAllClosedOnce(List<FakeWorkload> workloads) {
+        for (FakeWorkload workload : workloads) {
+            assertEquals(1, workload.closes.get(), "every workload is closed exactly once");
+        }
+    }
+
+    @Test
+    void testClosedModelLoopsEveryUserUntilTheEnd() throws Exception {
+        List<FakeWorkload> created = new CopyOnWriteArrayList<>();
+        LoadRunner runner = new LoadRunner(config(2, LoadConfig.Model.CLOSED, 0, Duration.ofSeconds(5)), () -> {
+            FakeWorkload workload = new FakeWorkload(20);
+            created.add(workload);
+            return workload;
+        });
+
+        LoadMetrics metrics = runner.run();
+
+        assertEquals(2, created.size());
+        for (FakeWorkload workload : created) {
+            assertTrue(workload.iterations.get() > 5, "each user keeps looping");
+        }
+        assertEquals(0, metrics.getFailedIterations());
+        assertEquals(metrics.getIterations(), metrics.getTotalRequests());
+        assertAllClosedOnce(created);
+    }
+
+    @Test
+    void testOpenModelDropsArrivalsWhenAllUsersAreBusy() throws Exception {
+        List<FakeWorkload> created = new CopyOnWriteArrayList<>();
+        // 50 arrivals/s against one user that needs 200 ms per iteration
+        LoadRunner runner = new LoadRunner(config(1, LoadConfig.Model.OPEN, 50, Duration.ofSeconds(5)), () -> {
+            FakeWorkload workload = new FakeWorkload(200);
+            created.add(workload);
+            return workload;
+        });
+
+        LoadMetrics metrics = runner.run();
+
+        assertEquals(1, created.size());
+        assertTrue(metrics.getIterations() >= 3);
+        assertTrue(metrics.getDroppedArrivals() > 20);
+        assertAllClosedOnce(created);
+    }
+
+    @Test
+    void testStartFailuresAreCounted() throws Exception {
+        LoadRunner closed = new LoadRunner(config(3, LoadConfig.Model.CLOSED, 0, Duration.ofSeconds(5)), () -> {
+            throw new IllegalStateException("browser did not start");
+        });
+        assertEquals(3, closed.run().getStartFailures());
+
+        LoadRunner open = new LoadRunner(config(1, LoadConfig.Model.OPEN, 10, Duration.ofSeconds(5)), () -> {
+            throw new IllegalStateException("browser did not start");
+        });
+        LoadMetrics metrics = open.run();
+        assertTrue(metrics.getStartFailures() > 0);
+        assertEquals(metrics.getStartFailures(), metrics.getFailedIterations());
+    }
+
+    @Test
+    void testBusyUsersAreInterruptedAfterGraceAndStillClosed() throws Exception {
+        List<FakeWorkload> created = new CopyOnWriteArrayList<>();
+        LoadRunner runner = new LoadRunner(config(2, LoadConfig.Model.CLOSED, 0, Duration.ZERO), () -> {
+            FakeWorkload workload = new FakeWorkload(TimeUnit.SECONDS.toMillis(30));
+            created.add(workload);
+            return workload;
+        });
+
+        long start = System.nanoTime();
+        LoadMetrics metrics = runner.run();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMillis < 10_000, "interrupted instead of waiting for the 30 s steps");
+        assertEquals(2, metrics.getFailedIterations());
+        assertAllClosedOnce(created);
+    }
+
+    @Test
+    void testStopEndsTheRunEarly() throws Exception {
+        List<FakeWorkload> created = new CopyOnWriteArrayList<>();
+        LoadConfig longRun = new LoadConfig(1, Duration.ofMinutes(5), LoadConfig.Model.CLOSED, 0,
+                LoadConfig.DriverMode.HTTP, "Method Developer", Duration.ofSeconds(1), Duration.ofSeconds(5));
+        LoadRunner runner = new LoadRunner(longRun, () -> {
+            FakeWorkload workload = new FakeWorkload(10);
+            created.add(workload);
+            return workload;
+        });
+
+        Thread stopper = new Thread(() -> {
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException ignored) {
+                return;
+            }
+            runner.stop();
+        });
+        stopper.start();
+        long start = System.nanoTime();
+        runner.run();
+
+        assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 10);
+        assertAllClosedOnce(created);
+    }
+}
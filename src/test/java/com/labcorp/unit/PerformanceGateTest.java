@@ -0,0 +1,128 @@
+package com.labcorp.unit;
+
+import com.labcorp.perf.CucumberJsonReader;
+import com.labcorp.perf.DurationHistory;
+import com.labcorp.perf.PerformanceGate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PerformanceGateTest {
+
+    @TempDir
+    Path dir;
+
+    // Key order follows Cucumber-JVM's JSON formatter: "elements" before the feature's name and uri
+    private static String report(long searchMillis) {
+        return """
+            [{"elements": [
+              {"type": "background", "name": "", "steps": [
+                {"keyword": "Given ", "name": "ignored", "result": {"status": "passed", "duration": 1}}]},
+              {"id": "labcorp-careers-page;search", "type": "scenario", "name": "Search",
+               "before": [{"result": {"status": "passed", "duration": 1000000}}],
+               "steps": [
+                {"keyword": "Given ", "name": "the user is on the LabCorp home page",
+                 "result": {"status": "passed", "duration": 200000000}},
+                {"keyword": "And ", "name": "the user searches for \\"Method Developer\\"",
+                 "result": {"status": "passed", "duration": %d}}]}
+              ], "name": "LabCorp Careers Page", "id": "labcorp-careers-page",
+              "uri": "features/labcorp_careers.feature"},
+             {"elements": [
+              {"id": "other-feature;search", "type": "scenario", "name": "Search", "steps": [
+                {"keyword": "Given ", "name": "another step", "result": {"status": "passed", "duration": 100000000}}]}
+              ], "name": "Other Feature", "id": "other-feature", "uri": "features/other.feature"},
+             {"elements": [], "name": "Empty"}]
+        """.formatted(searchMillis * 1_000_000L);
+    }
+
+    @Test
+    void testReaderStreamsScenarios() {
+        List<CucumberJsonReader.ScenarioResult> scenarios = new ArrayList<>();
+        int count = new CucumberJsonReader().read(new StringReader(report(300)), scenarios::add);
+
+        assertEquals(2, count);
+        CucumberJsonReader.ScenarioResult scenario = scenarios.get(0);
+        assertEquals("labcorp-careers-page;search", scenario.getId());
+        assertEquals("Search", scenario.getName());
+        assertEquals("passed", scenario.getStatus());
+        assertEquals(501_000_000L, scenario.getDurationNanos());
+        assertEquals("And the user searches for \"Method Developer\"", scenario.getSteps().get(1).getName());
+        assertEquals("other-feature;search", scenarios.get(1).getId());
+    }
+
+    @Test
+    void testStepRegressionIsFlagged() throws Exception {
+        PerformanceGate gate = new PerformanceGate(
+                new DurationHistory(dir.resolve("durations.tsv")), 10, 0.20, 50_000_000L, 3);
+        for (int run = 0; run < 3; run++) {
+            assertTrue(gate.evaluate(new StringReader(report(300)), "run-" + run).isEmpty());
+        }
+
+        List<PerformanceGate.Regression> regressions = gate.evaluate(new StringReader(report(600)), "run-3");
+
+        assertFalse(regressions.isEmpty());
+        assertTrue(regressions.stream().anyMatch(r ->
+                r.getKey().equals("STEP And the user searches for \"Method Developer\"")
+                        && r.getMetric().equals("median")));
+        assertTrue(regressions.stream().noneMatch(r -> r.getKey().contains("home page")));
+
+        // Same-named scenarios of different features are separate series
+        assertTrue(regressions.stream().anyMatch(r -> r.getKey().equals("SCENARIO labcorp-careers-page;search")));
+        assertTrue(regressions.stream().noneMatch(r -> r.getKey().equals("SCENARIO other-feature;search")));
+    }
+
+    @Test
+    void testRegressedRunsDoNotBecomeBaseline() throws Exception {
+        PerformanceGate gate = new PerformanceGate(
+                new DurationHistory(dir.resolve("durations.tsv")), 1, 0.20, 50_000_000L, 1);
+        assertTrue(gate.evaluate(new StringReader(report(300)), "run-0").isEmpty());
+
+        // Re-running a slow build keeps failing instead of dragging the baseline along
+        assertFalse(gate.evaluate(new StringReader(report(600)), "run-1").isEmpty());
+        assertFalse(gate.evaluate(new StringReader(report(600)), "run-2").isEmpty());
+
+        // An accepted run becomes the new baseline
+        assertFalse(gate.evaluate(new StringReader(report(600)), "run-3", true).isEmpty());
+        assertTrue(gate.evaluate(new StringReader(report(600)), "run-4").isEmpty());
+    }
+
+    @Test
+    void testSameReportIsIngestedOnce() throws Exception {
+        PerformanceGate gate = new PerformanceGate(
+                new DurationHistory(dir.resolve("durations.tsv")), 10, 0.20, 50_000_000L, 3);
+        Path reportFile = dir.resolve("cucumber.json");
+        Files.writeString(reportFile, report(300));
+        String fingerprint = PerformanceGate.reportFingerprint(reportFile);
+        assertFalse(gate.alreadyIngested(fingerprint));
+
+        try (Reader reader = Files.newBufferedReader(reportFile)) {
+            gate.evaluate(reader, "run-0", false, fingerprint);
+        }
+
+        // A build that skipped the tests finds the same report again
+        assertTrue(gate.alreadyIngested(PerformanceGate.reportFingerprint(reportFile)));
+
+        // The next Cucumber run rewrites it
+        Files.writeString(reportFile, report(3000));
+        assertFalse(gate.alreadyIngested(PerformanceGate.reportFingerprint(reportFile)));
+    }
+
+    @Test
+    void testSmallSlowdownWithinThresholdPasses() throws Exception {
+        PerformanceGate gate = new PerformanceGate(
+                new DurationHistory(dir.resolve("durations.tsv")), 10, 0.20, 50_000_000L, 3);
+        for (int run = 0; run < 3; run++) {
+            gate.evaluate(new StringReader(report(300)), "run-" + run);
+        }
+
+        assertTrue(gate.evaluate(new StringReader(report(340)), "run-3").isEmpty());
+    }
+}